@@ -0,0 +1,122 @@
+package org.example;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The two candidates AG looks for in its ready queue, found in one pass: the
+ * process with the best (lowest) priority and the one with the least remaining
+ * time. Ties go to the process nearer the head of the queue, as a front-to-back
+ * scan would pick.
+ *
+ * A queue longer than the threshold is split in halves on the common fork-join
+ * pool down to {@link #LEAF_SIZE} entries per task, or the threshold if that is
+ * smaller. Shorter queues are scanned on the calling thread, and so is every
+ * queue when the pool has a single thread. See {@code AGScanBenchmark} for
+ * where the split starts to pay off.
+ */
+public final class AGReadyScan {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+    static final int LEAF_SIZE = 1 << 13;
+
+    private final int bestPriority;
+    private final int shortestJob;
+
+    private AGReadyScan(int bestPriority, int shortestJob) {
+        this.bestPriority = bestPriority;
+        this.shortestJob = shortestJob;
+    }
+
+    /** Queue position of the best-priority process, or -1 if the queue is empty. */
+    public int getBestPriority() { return bestPriority; }
+
+    /** Queue position of the process with the least remaining time, or -1 if the queue is empty. */
+    public int getShortestJob() { return shortestJob; }
+
+    public static AGReadyScan scan(IntRingBuffer queue, ProcessTable table, int parallelThreshold) {
+        int size = queue.size();
+        if (size <= parallelThreshold || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            return sequential(queue, table, 0, size);
+        }
+        return parallel(queue, table, Math.max(1, Math.min(LEAF_SIZE, parallelThreshold)));
+    }
+
+    static AGReadyScan sequential(IntRingBuffer queue, ProcessTable table) {
+        return sequential(queue, table, 0, queue.size());
+    }
+
+    static AGReadyScan parallel(IntRingBuffer queue, ProcessTable table, int leafSize) {
+        return ForkJoinPool.commonPool().invoke(new Split(queue, table, leafSize, 0, queue.size()));
+    }
+
+    private static AGReadyScan sequential(IntRingBuffer queue, ProcessTable table, int from, int to) {
+        int bestPriority = -1;
+        int shortestJob = -1;
+        int priority = Integer.MAX_VALUE;
+        int remaining = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            Process p = table.get(queue.get(i));
+            if (bestPriority < 0 || p.getPriorityTime() < priority) {
+                bestPriority = i;
+                priority = p.getPriorityTime();
+            }
+            if (shortestJob < 0 || p.getRemainingTime() < remaining) {
+                shortestJob = i;
+                remaining = p.getRemainingTime();
+            }
+        }
+        return new AGReadyScan(bestPriority, shortestJob);
+    }
+
+    /** Keeps the left result unless the right one is strictly better. */
+    private static AGReadyScan combine(AGReadyScan left, AGReadyScan right, IntRingBuffer queue, ProcessTable table) {
+        int bestPriority = left.bestPriority;
+        if (bestPriority < 0 || (right.bestPriority >= 0 && priorityAt(queue, table, right.bestPriority) < priorityAt(queue, table, bestPriority))) {
+            bestPriority = right.bestPriority;
+        }
+        int shortestJob = left.shortestJob;
+        if (shortestJob < 0 || (right.shortestJob >= 0 && remainingAt(queue, table, right.shortestJob) < remainingAt(queue, table, shortestJob))) {
+            shortestJob = right.shortestJob;
+        }
+        return new AGReadyScan(bestPriority, shortestJob);
+    }
+
+    private static int priorityAt(IntRingBuffer queue, ProcessTable table, int index) {
+        return table.get(queue.get(index)).getPriorityTime();
+    }
+
+    private static int remainingAt(IntRingBuffer queue, ProcessTable table, int index) {
+        return table.get(queue.get(index)).getRemainingTime();
+    }
+
+    private static class Split extends RecursiveTask<AGReadyScan> {
+        private static final long serialVersionUID = 1L;
+
+        // Tasks are never serialized; the fields only need to live for one scan.
+        private final transient IntRingBuffer queue;
+        private final transient ProcessTable table;
+        private final int leafSize;
+        private final int from;
+        private final int to;
+
+        Split(IntRingBuffer queue, ProcessTable table, int leafSize, int from, int to) {
+            this.queue = queue;
+            this.table = table;
+            this.leafSize = leafSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected AGReadyScan compute() {
+            if (to - from <= leafSize) {
+                return sequential(queue, table, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            Split left = new Split(queue, table, leafSize, from, mid);
+            left.fork();
+            AGReadyScan right = new Split(queue, table, leafSize, mid, to).compute();
+            return combine(left.join(), right, queue, table);
+        }
+    }
+}
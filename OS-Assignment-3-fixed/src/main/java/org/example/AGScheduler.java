@@ -4,73 +4,198 @@ import java.util.*;
 
 public class AGScheduler {
     private List<Process> processes;
-    private Queue<Process> readyQueue;
-    private List<String> executionOrder;
-    private Map<String, List<Integer>> quantumHistoryMap;
-    private int contextSwitch;
+    private IntRingBuffer readyQueue;
+    private ProcessTable table;
+    private IntList executionOrder;
+    private IntList[] quantumHistory;
+    private SwitchCostModel switchCost;
+    private final CheckpointLog<State> checkpoints = new CheckpointLog<>();
+    private int parallelThreshold = AGReadyScan.DEFAULT_PARALLEL_THRESHOLD;
+
+    private ArrivalIndex arrivals;
+    private BlockedQueue blocked;
+    private int currentTime;
+    private int completed;
+    private Process currentProcess;
+    private Process lastProcess;
+    private int currentQuantumStartTime;
+
+    private static class State extends Checkpoint {
+        private final int[] readyQueue;
+        private final int[] historyLengths;
+        private final BlockedQueue blocked;
+        private final SwitchCostModel switchCost;
+        private final int arrivalPosition;
+        private final int completed;
+        private final int currentProcess;
+        private final int lastProcess;
+        private final int currentQuantumStartTime;
+
+        State(AGScheduler ag) {
+            super(ag.currentTime, ag.table, ag.executionOrder);
+            this.readyQueue = ag.readyQueue.toArray();
+            this.historyLengths = new int[ag.table.size()];
+            for (int id = 0; id < historyLengths.length; id++) {
+                historyLengths[id] = ag.quantumHistory[id].size();
+            }
+            this.blocked = new BlockedQueue(ag.blocked);
+            this.switchCost = ag.switchCost.copy();
+            this.arrivalPosition = ag.arrivals.position();
+            this.completed = ag.completed;
+            this.currentProcess = ag.currentProcess == null ? -1 : ag.currentProcess.getId();
+            this.lastProcess = ag.lastProcess == null ? -1 : ag.lastProcess.getId();
+            this.currentQuantumStartTime = ag.currentQuantumStartTime;
+        }
+
+        void restore(AGScheduler ag) {
+            restore(ag.table, ag.executionOrder);
+            ag.readyQueue.clear();
+            ag.readyQueue.offerAll(readyQueue, 0, readyQueue.length);
+            for (int id = 0; id < historyLengths.length; id++) {
+                ag.quantumHistory[id].truncate(historyLengths[id]);
+            }
+            ag.blocked = new BlockedQueue(blocked);
+            ag.switchCost = switchCost.copy();
+            ag.currentTime = getTime();
+            ag.arrivals.seek(arrivalPosition);
+            ag.completed = completed;
+            ag.currentProcess = currentProcess < 0 ? null : ag.table.get(currentProcess);
+            ag.lastProcess = lastProcess < 0 ? null : ag.table.get(lastProcess);
+            ag.currentQuantumStartTime = currentQuantumStartTime;
+        }
+    }
 
     public AGScheduler(List<Process> processes, int contextSwitch) {
+        this(processes, SwitchCostModel.flat(contextSwitch));
+    }
+
+    public AGScheduler(List<Process> processes, SwitchCostModel switchCost) {
         this.processes = processes;
-        this.contextSwitch = contextSwitch;
-        this.readyQueue = new LinkedList<>();
-        this.executionOrder = new ArrayList<>();
-        this.quantumHistoryMap = new HashMap<>();
+        this.switchCost = switchCost;
+        this.table = new ProcessTable(processes);
+        this.readyQueue = new IntRingBuffer(table.size());
+        this.executionOrder = new IntList();
+        this.quantumHistory = new IntList[table.size()];
         
         for (Process p : processes) {
-            quantumHistoryMap.put(p.getName(), new ArrayList<>());
-            quantumHistoryMap.get(p.getName()).add(p.getQuantum());
+            quantumHistory[p.getId()] = new IntList();
+            quantumHistory[p.getId()].add(p.getQuantum());
         }
     }
 
     public void run() {
-        int currentTime = 0;
-        int completed = 0;
-        Process currentProcess = null;
-        Process lastProcess = null;
-        int currentQuantumStartTime = 0;
-
-        List<Process> arrivalList = new ArrayList<>(processes);
-        arrivalList.sort(Comparator.comparingInt(Process::getArrivalTime));
-        int arrivalIndex = 0;
-
-        while (completed < processes.size()) {
-            while (arrivalIndex < arrivalList.size() && arrivalList.get(arrivalIndex).getArrivalTime() <= currentTime) {
-                readyQueue.add(arrivalList.get(arrivalIndex));
-                arrivalIndex++;
+        simulate().print();
+    }
+
+    public ScheduleResult simulate() {
+        for (Process p : processes) {
+            IntList history = quantumHistory[p.getId()];
+            history.truncate(1);
+            p.setQuantum(history.get(0));
+            p.restart();
+        }
+        readyQueue.clear();
+        blocked = new BlockedQueue(table.size());
+        switchCost.reset(table.size());
+        currentTime = 0;
+        completed = 0;
+        currentProcess = null;
+        lastProcess = null;
+        currentQuantumStartTime = 0;
+        executionOrder.clear();
+        checkpoints.clear();
+
+        arrivals = new ArrivalIndex(table);
+
+        loop();
+        return result();
+    }
+
+    /**
+     * Records a checkpoint every {@code interval} time units during the next
+     * simulate(), so that update() can replay only the tail of the schedule.
+     */
+    public void enableCheckpoints(int interval) {
+        checkpoints.setInterval(interval);
+    }
+
+    /** Ready queues longer than this are scanned on the fork-join pool; see {@link AGReadyScan}. */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Replaces the process with the same name as {@code changed} and
+     * re-simulates from the last checkpoint taken before either its old or its
+     * new arrival time. Nothing before that point can depend on the process.
+     */
+    public ScheduleResult update(Process changed) {
+        Process target = table.get(table.idOf(changed.getName()));
+        State checkpoint = checkpoints.rewindBefore(Math.min(target.getArrivalTime(), changed.getArrivalTime()));
+        if (checkpoint != null) {
+            checkpoint.restore(this);
+        }
+        target.redefine(changed);
+        checkpoints.redefine(target.getId(), changed);
+        quantumHistory[target.getId()].truncate(1);
+        quantumHistory[target.getId()].set(0, changed.getQuantum());
+
+        if (checkpoint == null) {
+            return simulate();
+        }
+        int position = arrivals.position();
+        arrivals = new ArrivalIndex(table);
+        arrivals.seek(position);
+        loop();
+        return result();
+    }
+
+    private void loop() {
+        while (completed < table.size()) {
+            if (checkpoints.isDue(currentTime)) {
+                checkpoints.record(new State(this));
             }
 
+            admit();
+
             if (currentProcess == null) {
                 if (!readyQueue.isEmpty()) {
-                    currentProcess = readyQueue.poll();
+                    currentProcess = table.get(readyQueue.poll());
                     
 
                     if (lastProcess != null && lastProcess != currentProcess) {
-                        currentTime += contextSwitch;
+                        currentTime += switchCost.switchCost(lastProcess.getId(), currentProcess.getId(), currentTime);
 
-                         while (arrivalIndex < arrivalList.size() && arrivalList.get(arrivalIndex).getArrivalTime() <= currentTime) {
-                            readyQueue.add(arrivalList.get(arrivalIndex));
-                            arrivalIndex++;
-                        }
+                        admit();
                     }
                     
                     currentQuantumStartTime = currentTime;
                 } else {
-                    currentTime++;
+                    currentTime = nextEvent();
                     continue;
                 }
             }
 
-            executionOrder.add(currentProcess.getName());
+            executionOrder.add(currentProcess.getId());
             currentProcess.setRemainingTime(currentProcess.getRemainingTime() - 1);
+            blocked.recordCpu(currentTime, currentTime + 1);
             currentTime++;
 
+            // Blocking for I/O gives up the CPU without touching the quantum.
+            if (currentProcess.getRemainingTime() == 0 && currentProcess.hasNextBurst()) {
+                blocked.block(currentProcess, currentTime);
+                lastProcess = currentProcess;
+                currentProcess = null;
+                continue;
+            }
+
             if (currentProcess.getRemainingTime() == 0) {
                 completed++;
                 currentProcess.setCompletionTime(currentTime);
                 currentProcess.setTurnaroundTime(currentTime - currentProcess.getArrivalTime());
-                currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime());
+                currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime() - currentProcess.getIoTime());
                 
-                quantumHistoryMap.get(currentProcess.getName()).add(0);
+                quantumHistory[currentProcess.getId()].add(0);
                 
                 lastProcess = currentProcess;
                 currentProcess = null;
@@ -84,40 +209,50 @@ public class AGScheduler {
 
             boolean switched = false;
 
+            // One pass finds both candidates; each decision point uses one of them.
+            AGReadyScan scan = quantumUsed == t1 || (quantumUsed >= t2 && quantumUsed < q)
+                    ? AGReadyScan.scan(readyQueue, table, parallelThreshold) : null;
+
             if (quantumUsed == t1) {
-                Process bestPriorityProc = getBestPriorityProcess(readyQueue);
+                int index = scan.getBestPriority();
+                Process bestPriorityProc = index < 0 ? null : table.get(readyQueue.get(index));
                 if (bestPriorityProc != null && bestPriorityProc.getPriorityTime() < currentProcess.getPriorityTime()) {
                     int remainingQ = q - quantumUsed;
                     int addedQ = (int) Math.ceil(remainingQ / 2.0);
                     int newQ = q + addedQ;
                     
                     currentProcess.setQuantum(newQ);
-                    quantumHistoryMap.get(currentProcess.getName()).add(newQ);
+                    quantumHistory[currentProcess.getId()].add(newQ);
                     
-                    readyQueue.add(currentProcess);
-                    readyQueue.remove(bestPriorityProc);
+                    readyQueue.removeAt(index);
+                    readyQueue.offer(currentProcess.getId());
                     
                     lastProcess = currentProcess;
                     currentProcess = bestPriorityProc;
+                    // AG swaps mid-quantum without a context-switch charge; the
+                    // model is only told, to keep its per-process history right.
+                    switchCost.recordSwitch(lastProcess.getId(), currentProcess.getId(), currentTime);
                     currentQuantumStartTime = currentTime;
                     switched = true;
                 }
             }
 
             else if (quantumUsed >= t2 && quantumUsed < q && !switched) {
-                 Process shortestJob = getShortestJobProcess(readyQueue);
+                 int index = scan.getShortestJob();
+                 Process shortestJob = index < 0 ? null : table.get(readyQueue.get(index));
                  if (shortestJob != null && shortestJob.getRemainingTime() < currentProcess.getRemainingTime()) {
                      int remainingQ = q - quantumUsed;
                      int newQ = q + remainingQ;
                      
                      currentProcess.setQuantum(newQ);
-                     quantumHistoryMap.get(currentProcess.getName()).add(newQ);
+                     quantumHistory[currentProcess.getId()].add(newQ);
                      
-                     readyQueue.add(currentProcess);
-                     readyQueue.remove(shortestJob);
+                     readyQueue.removeAt(index);
+                     readyQueue.offer(currentProcess.getId());
                      
                      lastProcess = currentProcess;
                      currentProcess = shortestJob;
+                     switchCost.recordSwitch(lastProcess.getId(), currentProcess.getId(), currentTime);
                      currentQuantumStartTime = currentTime;
                      switched = true;
                  }
@@ -126,71 +261,34 @@ public class AGScheduler {
             if (!switched && quantumUsed >= q) {
                 int newQ = q + 2;
                 currentProcess.setQuantum(newQ);
-                quantumHistoryMap.get(currentProcess.getName()).add(newQ);
+                quantumHistory[currentProcess.getId()].add(newQ);
                 
-                readyQueue.add(currentProcess);
+                readyQueue.offer(currentProcess.getId());
                 lastProcess = currentProcess;
                 currentProcess = null;
             }
         }
-        
-        printResults();
     }
 
-    private Process getBestPriorityProcess(Queue<Process> queue) {
-        Process best = null;
-        for (Process p : queue) {
-            if (best == null || p.getPriorityTime() < best.getPriorityTime()) {
-                best = p;
-            }
-        }
-        return best;
+    private ScheduleResult result() {
+        processes.sort(Comparator.comparing(Process::getName));
+        return blocked.report(ScheduleResult.of("AG Scheduling", table, executionOrder, processes, quantumHistory), processes);
     }
 
-    private Process getShortestJobProcess(Queue<Process> queue) {
-        Process best = null;
-        for (Process p : queue) {
-            if (best == null || p.getRemainingTime() < best.getRemainingTime()) {
-                best = p;
-            }
+    /** Queues every process that has arrived or finished its I/O by now. */
+    private void admit() {
+        int from = arrivals.position();
+        readyQueue.offerAll(arrivals.order(), from, arrivals.release(currentTime));
+        while (blocked.hasWakeup(currentTime)) {
+            readyQueue.offer(blocked.wake());
         }
-        return best;
     }
 
-    private void printResults() {
-        System.out.println("\n===== AG Scheduling =====");
-        
-        System.out.println("Quantum History:");
-        for (Map.Entry<String, List<Integer>> entry : quantumHistoryMap.entrySet()) {
-            System.out.print(entry.getKey() + ": ");
-            System.out.println(entry.getValue());
-        }
-        System.out.println("--------------------------------------------------");
-
-        System.out.print("Execution Order: ");
-        String prev = "";
-        for (String p : executionOrder) {
-            if (!p.equals(prev)) {
-                System.out.print(p + " ");
-                prev = p;
-            }
-        }
-        System.out.println();
-
-        double totalWT = 0, totalTAT = 0;
-        System.out.println("\nProcess Details:");
-        processes.sort(Comparator.comparing(Process::getName));
-        for (Process p : processes) {
-            System.out.println(p.getName() + " - Waiting Time: " + p.getWaitingTime() +
-                    ", Turnaround Time: " + p.getTurnaroundTime());
-            totalWT += p.getWaitingTime();
-            totalTAT += p.getTurnaroundTime();
-        }
-
-        System.out.printf("\nAverage Waiting Time: %.2f\n", totalWT / processes.size());
-        System.out.printf("Average Turnaround Time: %.2f\n", totalTAT / processes.size());
+    /** The next time a process arrives or returns from I/O, when nothing is ready now. */
+    private int nextEvent() {
+        return Math.min(arrivals.nextArrival(), blocked.nextWakeup());
     }
-    
+
     public List<Process> getProcesses() {
         return processes;
     }
@@ -0,0 +1,100 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Process ids grouped by arrival time.
+ *
+ * The ids are sorted by (arrival, id) and cut into buckets of equal arrival
+ * time. Releasing everything that has arrived by some time hands the scheduler
+ * one contiguous slice of {@link #order()}, which it can append or heapify into
+ * its ready structure in one step instead of inserting the processes one by
+ * one. A whole gang of same-tick arrivals is then admitted in time linear in
+ * its size.
+ */
+public class ArrivalIndex {
+    private final int[] order;
+    private final int[] times;
+    private final int[] starts;
+    private int bucket;
+
+    public ArrivalIndex(ProcessTable table) {
+        int n = table.size();
+        long[] keys = new long[n];
+        for (int id = 0; id < n; id++) {
+            keys[id] = ((long) table.get(id).getArrivalTime() << 32) | id;
+        }
+        Arrays.sort(keys);
+
+        order = new int[n];
+        int buckets = 0;
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) keys[i];
+            if (i == 0 || (keys[i] >> 32) != (keys[i - 1] >> 32)) {
+                buckets++;
+            }
+        }
+        times = new int[buckets];
+        starts = new int[buckets + 1];
+        int b = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || (keys[i] >> 32) != (keys[i - 1] >> 32)) {
+                times[b] = (int) (keys[i] >> 32);
+                starts[b] = i;
+                b++;
+            }
+        }
+        starts[buckets] = n;
+    }
+
+    /** All ids in (arrival, id) order. Slices of it are handed out by {@link #release}. */
+    public int[] order() {
+        return order;
+    }
+
+    /** How many ids have been released so far; the start of the next slice. */
+    public int position() {
+        return starts[bucket];
+    }
+
+    public boolean hasNext() {
+        return bucket < times.length;
+    }
+
+    /** Arrival time of the next unreleased bucket, or Integer.MAX_VALUE if none is left. */
+    public int nextArrival() {
+        return bucket < times.length ? times[bucket] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Releases every bucket that has arrived by {@code now}. The newly released
+     * ids are {@code order()[position() before the call .. returned value)}.
+     */
+    public int release(long now) {
+        while (bucket < times.length && times[bucket] <= now) {
+            bucket++;
+        }
+        return starts[bucket];
+    }
+
+    /**
+     * Goes back or forward to the state in which exactly {@code position} ids
+     * have been released. That must be the end of a bucket.
+     */
+    public void seek(int position) {
+        int b = Arrays.binarySearch(starts, position);
+        if (b < 0) {
+            throw new IllegalArgumentException("Position " + position + " is inside a bucket");
+        }
+        // Buckets are never empty, so starts has no duplicates.
+        bucket = b;
+    }
+
+    public void reset() {
+        bucket = 0;
+    }
+
+    public int size() {
+        return order.length;
+    }
+}
@@ -0,0 +1,117 @@
+package org.example;
+
+import java.util.List;
+
+/**
+ * Processes waiting on I/O, ordered by wakeup time.
+ *
+ * Schedulers move a process here when a CPU burst ends and another follows.
+ * They take it back once the clock reaches its wakeup time. The queue also
+ * accounts CPU busy time and I/O activity for the utilization and overlap
+ * figures. I/O counts as active while any process is blocked, and overlap is
+ * the part of that time during which the CPU was running a process.
+ */
+public class BlockedQueue {
+    private final int[] wakeup;
+    private final boolean[] blocked;
+    private final IntHeap heap;
+
+    private boolean ioSegmentOpen;
+    private int ioActiveSince;
+    private int ioActiveUntil;
+    private long ioActiveTime;
+    private long cpuBusyTime;
+    private long overlapTime;
+
+    public BlockedQueue(int processCount) {
+        this.wakeup = new int[processCount];
+        this.blocked = new boolean[processCount];
+        this.heap = new IntHeap(16, this::compare);
+    }
+
+    public BlockedQueue(BlockedQueue other) {
+        this.wakeup = other.wakeup.clone();
+        this.blocked = other.blocked.clone();
+        this.heap = new IntHeap(other.heap, this::compare);
+        this.ioSegmentOpen = other.ioSegmentOpen;
+        this.ioActiveSince = other.ioActiveSince;
+        this.ioActiveUntil = other.ioActiveUntil;
+        this.ioActiveTime = other.ioActiveTime;
+        this.cpuBusyTime = other.cpuBusyTime;
+        this.overlapTime = other.overlapTime;
+    }
+
+    private int compare(int a, int b) {
+        int c = Integer.compare(wakeup[a], wakeup[b]);
+        return c != 0 ? c : Integer.compare(a, b);
+    }
+
+    /** Ends the current CPU burst of {@code p} and blocks it for the following I/O burst. */
+    public void block(Process p, int now) {
+        int id = p.getId();
+        int until = now + p.startIo();
+        wakeup[id] = until;
+        blocked[id] = true;
+        heap.push(id);
+
+        if (!ioSegmentOpen || ioActiveUntil <= now) {
+            if (ioSegmentOpen) {
+                ioActiveTime += ioActiveUntil - ioActiveSince;
+            }
+            ioSegmentOpen = true;
+            ioActiveSince = now;
+            ioActiveUntil = until;
+        } else {
+            ioActiveUntil = Math.max(ioActiveUntil, until);
+        }
+    }
+
+    public boolean hasWakeup(int now) {
+        return !heap.isEmpty() && wakeup[heap.peek()] <= now;
+    }
+
+    /** Removes and returns the process with the earliest wakeup. */
+    public int wake() {
+        int id = heap.pop();
+        blocked[id] = false;
+        return id;
+    }
+
+    public int nextWakeup() {
+        return heap.isEmpty() ? Integer.MAX_VALUE : wakeup[heap.peek()];
+    }
+
+    public boolean isBlocked(int id) { return blocked[id]; }
+    public boolean isEmpty() { return heap.isEmpty(); }
+
+    /** Records that the CPU ran a process during [from, to). */
+    public void recordCpu(int from, int to) {
+        cpuBusyTime += to - from;
+        if (ioSegmentOpen) {
+            overlapTime += Math.max(0, Math.min(to, ioActiveUntil) - Math.max(from, ioActiveSince));
+        }
+    }
+
+    /**
+     * Adds CPU utilization and I/O overlap to {@code result} when the workload
+     * has any I/O. Otherwise the result is returned unchanged.
+     */
+    public ScheduleResult report(ScheduleResult result, List<Process> processes) {
+        boolean anyIo = false;
+        int start = Integer.MAX_VALUE;
+        int end = 0;
+        for (Process p : processes) {
+            anyIo |= p.hasIo();
+            start = Math.min(start, p.getArrivalTime());
+            end = Math.max(end, p.getCompletionTime());
+        }
+        if (!anyIo) {
+            return result;
+        }
+
+        long ioTime = ioActiveTime + (ioSegmentOpen ? ioActiveUntil - ioActiveSince : 0);
+        double utilization = end > start ? (double) cpuBusyTime / (end - start) : 0;
+        double overlap = ioTime > 0 ? (double) overlapTime / ioTime : 0;
+        return result.withIoStats(utilization, overlap);
+    }
+}
@@ -0,0 +1,248 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Round Robin or preemptive SJF over a stream of processes, in memory bounded
+ * by the number of processes alive at once rather than by the trace length.
+ *
+ * Processes are taken from the source only when they arrive, so the source has
+ * to yield them in arrival order. Each one gets a slot in primitive arrays
+ * indexed like process ids elsewhere; when it completes it is handed to the
+ * {@link ResultSink} and its slot is reused by a later arrival. Nothing else is
+ * kept per process: there is no execution order and no name-sorted result
+ * list, only the running totals in {@link Summary}.
+ *
+ * The schedules are the same as {@link FastRoundRobin} and {@link PreemptiveSJF}
+ * give with a flat context switch. Ties in SJF go to the earlier arrival and
+ * then to the earlier position in the source. Processes with I/O bursts are
+ * rejected.
+ */
+public class BoundedScheduler {
+    public enum Policy { ROUND_ROBIN, SJF }
+
+    private final Iterator<Process> source;
+    private final Policy policy;
+    private final int quantum;
+    private final int contextSwitch;
+
+    private Process[] live = new Process[16];
+    private int[] arrival = new int[16];
+    private int[] remaining = new int[16];
+    private long[] sequence = new long[16];
+    private final IntList freeSlots = new IntList();
+    private int liveCount;
+    private int peakLive;
+
+    private Process pending;
+    private long admitted;
+    private long completed;
+    private long totalWaitingTime;
+    private long totalTurnaroundTime;
+
+    public static class Summary {
+        private final long processes;
+        private final double averageWaitingTime;
+        private final double averageTurnaroundTime;
+        private final long makespan;
+        private final int peakLiveProcesses;
+
+        Summary(long processes, long totalWaitingTime, long totalTurnaroundTime, long makespan, int peakLiveProcesses) {
+            this.processes = processes;
+            this.averageWaitingTime = processes == 0 ? 0 : (double) totalWaitingTime / processes;
+            this.averageTurnaroundTime = processes == 0 ? 0 : (double) totalTurnaroundTime / processes;
+            this.makespan = makespan;
+            this.peakLiveProcesses = peakLiveProcesses;
+        }
+
+        public long getProcesses() { return processes; }
+        public double getAverageWaitingTime() { return averageWaitingTime; }
+        public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
+        /** Completion time of the last process. */
+        public long getMakespan() { return makespan; }
+        /** Most processes that had arrived and not completed at the same time. */
+        public int getPeakLiveProcesses() { return peakLiveProcesses; }
+
+        public void print(PrintStream out) {
+            out.println("Processes: " + processes);
+            out.printf("Average Waiting Time: %.2f\n", averageWaitingTime);
+            out.printf("Average Turnaround Time: %.2f\n", averageTurnaroundTime);
+            out.println("Makespan: " + makespan);
+            out.println("Peak Live Processes: " + peakLiveProcesses);
+        }
+    }
+
+    public BoundedScheduler(Iterator<Process> source, Policy policy, int quantum, int contextSwitch) {
+        this.source = source;
+        this.policy = policy;
+        this.quantum = quantum;
+        this.contextSwitch = contextSwitch;
+    }
+
+    public void run(ResultSink sink) throws IOException {
+        simulate(sink).print(System.out);
+    }
+
+    /** Runs the whole source; each process is passed to {@code sink} when it completes. */
+    public Summary simulate(ResultSink sink) throws IOException {
+        pending = source.hasNext() ? checked(source.next()) : null;
+        long makespan = policy == Policy.ROUND_ROBIN ? roundRobin(sink) : shortestRemaining(sink);
+        return new Summary(completed, totalWaitingTime, totalTurnaroundTime, makespan, peakLive);
+    }
+
+    private long roundRobin(ResultSink sink) throws IOException {
+        IntRingBuffer readyQueue = new IntRingBuffer(16);
+        long currentTime = 0;
+        boolean firstExecution = true;
+
+        while (pending != null || !readyQueue.isEmpty()) {
+            admit(currentTime, readyQueue, null);
+            if (readyQueue.isEmpty()) {
+                currentTime = pending.getArrivalTime();
+                continue;
+            }
+
+            int current = readyQueue.poll();
+            if (!firstExecution) {
+                currentTime += contextSwitch;
+            }
+            firstExecution = false;
+
+            // A process with nothing left still occupies one tick, like the reference loop.
+            int slice;
+            if (remaining[current] <= 0) {
+                slice = 1;
+            } else if (quantum <= 0) {
+                slice = remaining[current];
+            } else {
+                slice = Math.min(quantum, remaining[current]);
+            }
+            remaining[current] -= slice;
+            currentTime += slice;
+
+            admit(currentTime, readyQueue, null);
+            if (remaining[current] <= 0) {
+                complete(current, currentTime, sink);
+            } else {
+                readyQueue.offer(current);
+            }
+        }
+        return currentTime;
+    }
+
+    private long shortestRemaining(ResultSink sink) throws IOException {
+        IntHeap ready = new IntHeap(16, this::compare);
+        long currentTime = 0;
+        int running = -1;
+        long last = -1;
+
+        while (pending != null || !ready.isEmpty() || running >= 0) {
+            admit(currentTime, null, ready);
+            if (running < 0) {
+                if (ready.isEmpty()) {
+                    currentTime = pending.getArrivalTime();
+                    continue;
+                }
+                running = ready.pop();
+            } else if (!ready.isEmpty() && compare(ready.peek(), running) < 0) {
+                ready.push(running);
+                running = ready.pop();
+            }
+
+            if (last >= 0 && last != sequence[running]) {
+                currentTime += contextSwitch;
+            }
+            last = sequence[running];
+
+            // Run until the next arrival, but at least one unit: arrivals that
+            // passed during a context switch are looked at afterwards.
+            int slice = remaining[running];
+            if (pending != null) {
+                long untilArrival = pending.getArrivalTime() - currentTime;
+                slice = (int) Math.min(slice, untilArrival > 0 ? untilArrival : 1);
+            }
+            remaining[running] -= slice;
+            currentTime += slice;
+
+            if (remaining[running] == 0) {
+                complete(running, currentTime, sink);
+                running = -1;
+            }
+        }
+        return currentTime;
+    }
+
+    /** Moves every pending process that has arrived by {@code now} into a slot and the ready structure. */
+    private void admit(long now, IntRingBuffer queue, IntHeap heap) {
+        while (pending != null && pending.getArrivalTime() <= now) {
+            int slot = allocate(pending);
+            if (queue != null) {
+                queue.offer(slot);
+            } else {
+                heap.push(slot);
+            }
+            pending = source.hasNext() ? checked(source.next()) : null;
+        }
+    }
+
+    private Process checked(Process p) {
+        if (p.hasIo()) {
+            throw new IllegalArgumentException("BoundedScheduler does not model I/O bursts: " + p.getName());
+        }
+        if (pending != null && p.getArrivalTime() < pending.getArrivalTime()) {
+            throw new IllegalArgumentException("Processes must come in arrival order: " + p.getName()
+                    + " arrives at " + p.getArrivalTime() + ", after " + pending.getName() + " at " + pending.getArrivalTime());
+        }
+        return p;
+    }
+
+    private int allocate(Process p) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.get(freeSlots.size() - 1);
+            freeSlots.truncate(freeSlots.size() - 1);
+        } else {
+            slot = liveCount;
+            if (slot == live.length) {
+                int capacity = live.length * 2;
+                live = Arrays.copyOf(live, capacity);
+                arrival = Arrays.copyOf(arrival, capacity);
+                remaining = Arrays.copyOf(remaining, capacity);
+                sequence = Arrays.copyOf(sequence, capacity);
+            }
+        }
+        live[slot] = p;
+        arrival[slot] = p.getArrivalTime();
+        remaining[slot] = p.getBurstTime();
+        sequence[slot] = admitted++;
+        liveCount++;
+        peakLive = Math.max(peakLive, liveCount);
+        return slot;
+    }
+
+    private void complete(int slot, long now, ResultSink sink) throws IOException {
+        Process p = live[slot];
+        p.setRemainingTime(Math.max(remaining[slot], 0));
+        long turnaround = now - arrival[slot];
+        long waiting = turnaround - p.getBurstTime();
+        completed++;
+        totalWaitingTime += waiting;
+        totalTurnaroundTime += turnaround;
+
+        live[slot] = null;
+        freeSlots.add(slot);
+        liveCount--;
+        sink.accept(p, now, waiting, turnaround);
+    }
+
+    private int compare(int a, int b) {
+        int c = Integer.compare(remaining[a], remaining[b]);
+        if (c != 0) {
+            return c;
+        }
+        c = Integer.compare(arrival[a], arrival[b]);
+        return c != 0 ? c : Long.compare(sequence[a], sequence[b]);
+    }
+}
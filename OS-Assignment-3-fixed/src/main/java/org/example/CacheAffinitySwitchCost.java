@@ -0,0 +1,101 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Context-switch cost that depends on how warm the incoming process's cache is.
+ *
+ * Every switch costs {@code baseCost}. On top of that the incoming process pays
+ * to refill its cache. A process that has never run pays the full
+ * {@code refillCost}. Otherwise its cache cools from the moment it was switched
+ * out, and it pays {@code refillCost * (1 - e^(-t / decayTime))} rounded up,
+ * where t is the time since then.
+ *
+ * The simulated machine has {@code cores} CPUs fed from one run queue, taking
+ * dispatches in turn. A process that lands on a different core from its last
+ * one pays {@code migrationCost} plus the full refill. Re-dispatching the
+ * process that was already running keeps it on its core. With one core nothing
+ * ever migrates.
+ */
+public final class CacheAffinitySwitchCost implements SwitchCostModel {
+    private final int baseCost;
+    private final int refillCost;
+    private final double decayTime;
+    private final int migrationCost;
+    private final int cores;
+
+    private long[] switchedOut;
+    private int[] core;
+    private int nextCore;
+
+    public CacheAffinitySwitchCost(int baseCost, int refillCost, double decayTime, int migrationCost, int cores) {
+        if (baseCost < 0 || refillCost < 0 || migrationCost < 0) {
+            throw new IllegalArgumentException("Costs must be >= 0");
+        }
+        if (decayTime <= 0) {
+            throw new IllegalArgumentException("decayTime must be > 0: " + decayTime);
+        }
+        if (cores < 1) {
+            throw new IllegalArgumentException("cores must be >= 1: " + cores);
+        }
+        this.baseCost = baseCost;
+        this.refillCost = refillCost;
+        this.decayTime = decayTime;
+        this.migrationCost = migrationCost;
+        this.cores = cores;
+        reset(0);
+    }
+
+    private CacheAffinitySwitchCost(CacheAffinitySwitchCost other) {
+        this.baseCost = other.baseCost;
+        this.refillCost = other.refillCost;
+        this.decayTime = other.decayTime;
+        this.migrationCost = other.migrationCost;
+        this.cores = other.cores;
+        this.switchedOut = other.switchedOut.clone();
+        this.core = other.core.clone();
+        this.nextCore = other.nextCore;
+    }
+
+    @Override
+    public void reset(int processCount) {
+        switchedOut = new long[processCount];
+        Arrays.fill(switchedOut, -1);
+        core = new int[processCount];
+        nextCore = 1 % cores;
+    }
+
+    @Override
+    public int switchCost(int from, int to, long now) {
+        if (from == to) {
+            return baseCost;
+        }
+        if (from >= 0) {
+            switchedOut[from] = now;
+        }
+
+        int target = nextCore;
+        nextCore = (nextCore + 1) % cores;
+        int cost = baseCost;
+        if (switchedOut[to] < 0) {
+            cost += refillCost;
+        } else if (core[to] != target) {
+            cost += migrationCost + refillCost;
+        } else {
+            double cooled = 1 - Math.exp(-(now - switchedOut[to]) / decayTime);
+            cost += (int) Math.ceil(refillCost * cooled - 1e-9);
+        }
+        core[to] = target;
+        return cost;
+    }
+
+    @Override
+    public SwitchCostModel copy() {
+        return new CacheAffinitySwitchCost(this);
+    }
+
+    @Override
+    public String toString() {
+        return "cacheAffinity(" + baseCost + "," + refillCost + "," + decayTime + "," + migrationCost + "," + cores + ")";
+    }
+}
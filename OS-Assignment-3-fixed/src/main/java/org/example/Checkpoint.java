@@ -0,0 +1,64 @@
+package org.example;
+
+/**
+ * Copy of a scheduler's state at the top of its main loop.
+ * This base class holds the per-process fields every scheduler mutates. Each
+ * scheduler subclasses it to add its own loop variables, such as the ready
+ * queue and the current process.
+ */
+public class Checkpoint {
+    private final int time;
+    private final int executionLength;
+    private final int[] remaining;
+    private final int[] waiting;
+    private final int[] turnaround;
+    private final int[] completion;
+    private final int[] quantum;
+    private final int[] phase;
+
+    public Checkpoint(int time, ProcessTable table, IntList executionOrder) {
+        int n = table.size();
+        this.time = time;
+        this.executionLength = executionOrder.size();
+        this.remaining = new int[n];
+        this.waiting = new int[n];
+        this.turnaround = new int[n];
+        this.completion = new int[n];
+        this.quantum = new int[n];
+        this.phase = new int[n];
+        for (int id = 0; id < n; id++) {
+            Process p = table.get(id);
+            remaining[id] = p.getRemainingTime();
+            waiting[id] = p.getWaitingTime();
+            turnaround[id] = p.getTurnaroundTime();
+            completion[id] = p.getCompletionTime();
+            quantum[id] = p.getQuantum();
+            phase[id] = p.getPhase();
+        }
+    }
+
+    public void restore(ProcessTable table, IntList executionOrder) {
+        for (int id = 0; id < table.size(); id++) {
+            Process p = table.get(id);
+            p.setRemainingTime(remaining[id]);
+            p.setWaitingTime(waiting[id]);
+            p.setTurnaroundTime(turnaround[id]);
+            p.setCompletionTime(completion[id]);
+            p.setQuantum(quantum[id]);
+            p.setPhase(phase[id]);
+        }
+        executionOrder.truncate(executionLength);
+    }
+
+    /**
+     * Applies a what-if change to a process that had not arrived yet when this
+     * checkpoint was taken, so restoring it later gives the new definition.
+     */
+    public void redefine(int id, Process definition) {
+        remaining[id] = definition.getBursts()[0];
+        quantum[id] = definition.getQuantum();
+        phase[id] = 0;
+    }
+
+    public int getTime() { return time; }
+}
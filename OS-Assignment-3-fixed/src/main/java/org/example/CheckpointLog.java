@@ -0,0 +1,72 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Periodic checkpoints of one scheduler run, ordered by time.
+ * A checkpoint is due once the clock has moved at least {@code interval} time
+ * units past the previous one. An interval of 0 turns checkpointing off.
+ */
+public class CheckpointLog<C extends Checkpoint> {
+    private final List<C> checkpoints = new ArrayList<>();
+    private int interval;
+    private int nextTime;
+
+    public void setInterval(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be >= 0, got " + interval);
+        }
+        this.interval = interval;
+    }
+
+    public boolean isEnabled() { return interval > 0; }
+
+    public boolean isDue(int currentTime) {
+        return interval > 0 && currentTime >= nextTime;
+    }
+
+    public void record(C checkpoint) {
+        checkpoints.add(checkpoint);
+        nextTime = checkpoint.getTime() + interval;
+    }
+
+    public void clear() {
+        checkpoints.clear();
+        nextTime = 0;
+    }
+
+    /**
+     * Returns the latest checkpoint taken strictly before {@code time} and drops
+     * every later one, since a replay from it will record them again.
+     * Returns null when no such checkpoint exists.
+     */
+    public C rewindBefore(int time) {
+        int lo = 0;
+        int hi = checkpoints.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (checkpoints.get(mid).getTime() < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        if (lo == 0) {
+            clear();
+            return null;
+        }
+        C checkpoint = checkpoints.get(lo - 1);
+        checkpoints.subList(lo, checkpoints.size()).clear();
+        nextTime = checkpoint.getTime() + interval;
+        return checkpoint;
+    }
+
+    public void redefine(int id, Process definition) {
+        for (C checkpoint : checkpoints) {
+            checkpoint.redefine(id, definition);
+        }
+    }
+
+    public int size() { return checkpoints.size(); }
+}
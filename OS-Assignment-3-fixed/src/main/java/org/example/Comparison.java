@@ -0,0 +1,278 @@
+package org.example;
+
+import com.google.gson.*;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs every scheduling policy on one workload and lines the results up.
+ *
+ * The workload is parsed once; each policy gets its own copy of the processes
+ * and runs as a separate task, so with enough threads the comparison takes
+ * about as long as the slowest policy.
+ */
+public class Comparison {
+    public static final long LOTTERY_SEED = 42;
+    public static final double PREDICTION_ALPHA = 0.5;
+    public static final double INITIAL_ESTIMATE = 5;
+    public static final List<String> POLICIES =
+            List.of("AG", "SJF", "Predictive SJF", "RR", "Priority", "Stride", "Lottery");
+    public static final String CSV_HEADER =
+            "workload,policy,averageWaitingTime,averageTurnaroundTime,dispatches,elapsedMillis";
+
+    private static final Map<String, String> SCHEDULERS = Map.of(
+            "ag", "AG",
+            "sjf", "SJF",
+            "psjf", "Predictive SJF",
+            "rr", "RR",
+            "priority", "Priority",
+            "stride", "Stride",
+            "lottery", "Lottery",
+            "edf", "EDF");
+
+    /** Policies that only schedule CPU bursts and reject processes with I/O. */
+    private static final Set<String> CPU_ONLY = Set.of("Fast RR", "Stride", "Lottery", "EDF");
+
+    private final Workload workload;
+    private final List<String> policies;
+    private final Map<String, ScheduleResult> results = new LinkedHashMap<>();
+    private final Map<String, String> skipped = new LinkedHashMap<>();
+    private final Map<String, Long> elapsedNanos = new LinkedHashMap<>();
+
+    public Comparison(Workload workload) {
+        this(workload, POLICIES);
+    }
+
+    /**
+     * Compares only {@code policies}, which may also name the engines that are
+     * not part of the default set: "Fast RR" and "EDF".
+     */
+    public Comparison(Workload workload, List<String> policies) {
+        this.workload = workload;
+        this.policies = List.copyOf(policies);
+    }
+
+    /**
+     * Maps a short scheduler name as used on the command line ("rr", "psjf",
+     * "all", ...) and an engine ("reference" or "fast") to policy names.
+     */
+    public static List<String> policiesOf(String scheduler, String engine) {
+        List<String> policies;
+        if (scheduler.equals("all")) {
+            policies = new ArrayList<>(POLICIES);
+        } else if (SCHEDULERS.containsKey(scheduler)) {
+            policies = new ArrayList<>(List.of(SCHEDULERS.get(scheduler)));
+        } else {
+            throw new IllegalArgumentException("Unknown scheduler: " + scheduler);
+        }
+        if (engine.equals("fast")) {
+            if (!policies.contains("RR")) {
+                throw new IllegalArgumentException("The fast engine is only available for rr");
+            }
+            policies.set(policies.indexOf("RR"), "Fast RR");
+        } else if (!engine.equals("reference")) {
+            throw new IllegalArgumentException("Unknown engine: " + engine);
+        }
+        return policies;
+    }
+
+    /** Runs one policy on a fresh copy of {@code workload}. */
+    public static ScheduleResult simulate(String policy, Workload workload) {
+        List<Process> processes = workload.processes();
+        SwitchCostModel contextSwitch = workload.switchCostModel();
+        int quantum = workload.getRrQuantum();
+        return switch (policy) {
+            case "AG" -> new AGScheduler(processes, contextSwitch).simulate();
+            case "SJF" -> new PreemptiveSJF(processes, contextSwitch).simulate();
+            case "Predictive SJF" -> new PredictiveSJF(processes, contextSwitch, PREDICTION_ALPHA, INITIAL_ESTIMATE).simulate();
+            case "RR" -> new RoundRobin(processes, quantum, contextSwitch).simulate();
+            case "Fast RR" -> new FastRoundRobin(processes, quantum, contextSwitch).simulate();
+            case "Priority" -> new PriorityScheduler(processes, contextSwitch, workload.getAgingInterval()).simulate();
+            case "Stride" -> new StrideScheduler(processes, quantum, contextSwitch).simulate();
+            case "Lottery" -> new LotteryScheduler(processes, quantum, contextSwitch, LOTTERY_SEED).simulate();
+            case "EDF" -> new EDFScheduler(processes, contextSwitch, workload.getHorizon()).simulate();
+            default -> throw new IllegalArgumentException("Unknown policy: " + policy);
+        };
+    }
+
+    /** Why {@code policy} cannot schedule {@code workload}, or null if it can. */
+    public static String unsupported(String policy, Workload workload) {
+        if (CPU_ONLY.contains(policy) && workload.hasIo()) {
+            return "does not model I/O bursts";
+        }
+        return null;
+    }
+
+    /**
+     * Runs the policies on up to {@code parallelism} threads and waits for them.
+     * Policies that cannot schedule the workload are not run; they are listed
+     * in {@link #getSkipped()} instead, so no incomparable numbers appear.
+     */
+    public Comparison run(int parallelism) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, policies.size())));
+        try {
+            Map<String, Future<ScheduleResult>> futures = new LinkedHashMap<>();
+            Map<String, long[]> timings = new LinkedHashMap<>();
+            for (String policy : policies) {
+                String reason = unsupported(policy, workload);
+                if (reason != null) {
+                    skipped.put(policy, reason);
+                    continue;
+                }
+                long[] elapsed = new long[1];
+                timings.put(policy, elapsed);
+                futures.put(policy, pool.submit(() -> {
+                    long start = System.nanoTime();
+                    ScheduleResult result = simulate(policy, workload);
+                    elapsed[0] = System.nanoTime() - start;
+                    return result;
+                }));
+            }
+            for (String policy : futures.keySet()) {
+                try {
+                    results.put(policy, futures.get(policy).get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(policy + " failed on " + workload.getName() + ": "
+                            + e.getCause().getMessage(), e.getCause());
+                }
+                elapsedNanos.put(policy, timings.get(policy)[0]);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Comparison interrupted", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return this;
+    }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    public Map<String, ScheduleResult> getResults() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    /** The policies that were not run, each with the reason. */
+    public Map<String, String> getSkipped() {
+        return Collections.unmodifiableMap(skipped);
+    }
+
+    private static int dispatches(ScheduleResult result) {
+        return result.getExecutionOrder().size();
+    }
+
+    /** Prints the averages per policy, then each process's waiting time under every policy. */
+    public void printTable() {
+        printTable(System.out);
+    }
+
+    public void printTable(PrintStream out) {
+        out.println("\n===== Comparison: " + workload.getName() + " =====");
+        out.printf("%-16s %10s %10s %10s %10s\n", "Policy", "Avg WT", "Avg TAT", "Dispatches", "Time (ms)");
+        for (Map.Entry<String, ScheduleResult> entry : results.entrySet()) {
+            ScheduleResult r = entry.getValue();
+            out.printf("%-16s %10.2f %10.2f %10d %10.2f\n", entry.getKey(),
+                    r.getAverageWaitingTime(), r.getAverageTurnaroundTime(), dispatches(r),
+                    elapsedNanos.get(entry.getKey()) / 1e6);
+        }
+        for (Map.Entry<String, String> entry : skipped.entrySet()) {
+            out.printf("%-16s skipped: %s\n", entry.getKey(), entry.getValue());
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+
+        out.println("\nWaiting Time by Process:");
+        out.printf("%-10s", "Process");
+        for (String policy : results.keySet()) {
+            out.printf(" %15s", policy);
+        }
+        out.println();
+        List<String> names = new ArrayList<>();
+        for (ScheduleResult.ProcessResult pr : results.values().iterator().next().getProcessResults()) {
+            names.add(pr.getName());
+        }
+        Collections.sort(names);
+        for (String name : names) {
+            out.printf("%-10s", name);
+            for (ScheduleResult r : results.values()) {
+                out.printf(" %15d", waitingTimeOf(r, name));
+            }
+            out.println();
+        }
+    }
+
+    private static int waitingTimeOf(ScheduleResult result, String name) {
+        for (ScheduleResult.ProcessResult pr : result.getProcessResults()) {
+            if (pr.getName().equals(name)) {
+                return pr.getWaitingTime();
+            }
+        }
+        throw new IllegalArgumentException("No result for " + name);
+    }
+
+    /** One object per policy with its averages, timing and the full result. */
+    public String toJson() {
+        return new GsonBuilder().setPrettyPrinting().create().toJson(toJsonTree());
+    }
+
+    public JsonObject toJsonTree() {
+        JsonArray entries = new JsonArray();
+        Gson gson = new Gson();
+        for (Map.Entry<String, ScheduleResult> entry : results.entrySet()) {
+            ScheduleResult r = entry.getValue();
+            JsonObject summary = new JsonObject();
+            summary.addProperty("policy", entry.getKey());
+            summary.addProperty("averageWaitingTime", r.getAverageWaitingTime());
+            summary.addProperty("averageTurnaroundTime", r.getAverageTurnaroundTime());
+            summary.addProperty("dispatches", dispatches(r));
+            summary.addProperty("elapsedMillis", elapsedNanos.get(entry.getKey()) / 1e6);
+            summary.add("result", gson.toJsonTree(r));
+            entries.add(summary);
+        }
+        JsonArray notRun = new JsonArray();
+        for (Map.Entry<String, String> entry : skipped.entrySet()) {
+            JsonObject skip = new JsonObject();
+            skip.addProperty("policy", entry.getKey());
+            skip.addProperty("reason", entry.getValue());
+            notRun.add(skip);
+        }
+        JsonObject root = new JsonObject();
+        root.addProperty("workload", workload.getName());
+        root.add("policies", entries);
+        root.add("skipped", notRun);
+        return root;
+    }
+
+    /** {@link #CSV_HEADER} and one line per policy. */
+    public String toCsv() {
+        return CSV_HEADER + "\n" + csvRows();
+    }
+
+    /** One line per policy that ran: workload, policy, averages, dispatches and elapsed time. */
+    public String csvRows() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, ScheduleResult> entry : results.entrySet()) {
+            ScheduleResult r = entry.getValue();
+            sb.append(csvField(workload.getName()))
+              .append(',').append(entry.getKey())
+              .append(',').append(String.format(Locale.ROOT, "%.2f", r.getAverageWaitingTime()))
+              .append(',').append(String.format(Locale.ROOT, "%.2f", r.getAverageTurnaroundTime()))
+              .append(',').append(dispatches(r))
+              .append(',').append(String.format(Locale.ROOT, "%.3f", elapsedNanos.get(entry.getKey()) / 1e6))
+              .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Quotes {@code value} for CSV when it holds a comma, quote or newline. */
+    static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example;
+
+import java.io.*;
+
+/**
+ * Writes one CSV line per completed process, after a {@link #HEADER} line.
+ * Names are quoted as in {@link Comparison#csvRows()}. Closing the sink closes
+ * the writer.
+ */
+public class CsvResultSink implements ResultSink {
+    public static final String HEADER = "name,arrival,burst,completion,waitingTime,turnaroundTime";
+
+    private final Writer out;
+
+    public CsvResultSink(Writer out) throws IOException {
+        this.out = out;
+        out.write(HEADER);
+        out.write('\n');
+    }
+
+    @Override
+    public void accept(Process p, long completionTime, long waitingTime, long turnaroundTime) throws IOException {
+        out.write(Comparison.csvField(p.getName()) + "," + p.getArrivalTime() + "," + p.getBurstTime() + ","
+                + completionTime + "," + waitingTime + "," + turnaroundTime + "\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
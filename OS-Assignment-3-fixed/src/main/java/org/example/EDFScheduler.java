@@ -0,0 +1,405 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Preemptive Earliest-Deadline-First scheduling of real-time jobs.
+ *
+ * A process with a period releases one job every {@code period} time units,
+ * starting at its arrival, until the horizon. A process without a period is a
+ * single job. A job's absolute deadline is its release plus the process
+ * deadline. A deadline of 0 means "equal to the period", and a process with
+ * neither value has no deadline.
+ *
+ * Jobs live in primitive arrays and the ready queue is a deadline-ordered heap.
+ * The clock jumps from event to event (release or completion), so a run costs
+ * O(J log J) for J jobs. Processes with I/O bursts are rejected.
+ */
+public class EDFScheduler {
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final List<Process> processes;
+    private final SwitchCostModel switchCost;
+    private final int horizon;
+    private final ProcessTable table;
+
+    private int jobCount;
+    private int[] jobTask;
+    private int[] jobIndex;
+    private int[] release;
+    private long[] absoluteDeadline;
+    private int[] completion;
+    private DeadlineReport report;
+
+    public enum Verdict { FEASIBLE, INFEASIBLE, UNDECIDED }
+
+    /**
+     * Outcome of the admission test.
+     * INFEASIBLE comes from a necessary condition failing: utilization above 1,
+     * or more demand due by some deadline than time available before it.
+     * FEASIBLE comes from the sufficient density bound. UNDECIDED means neither
+     * applies; with zero switch cost, the EDF run itself then decides, because
+     * EDF is optimal on one CPU.
+     */
+    public static class Admission {
+        private final double utilization;
+        private final double density;
+        private final boolean demandMet;
+        private final Verdict verdict;
+
+        Admission(double utilization, double density, boolean demandMet) {
+            this.utilization = utilization;
+            this.density = density;
+            this.demandMet = demandMet;
+            if (utilization > 1.0 || !demandMet) {
+                this.verdict = Verdict.INFEASIBLE;
+            } else if (density <= 1.0) {
+                this.verdict = Verdict.FEASIBLE;
+            } else {
+                this.verdict = Verdict.UNDECIDED;
+            }
+        }
+
+        public double getUtilization() { return utilization; }
+        public double getDensity() { return density; }
+        public boolean isDemandMet() { return demandMet; }
+        public Verdict getVerdict() { return verdict; }
+
+        public void print() {
+            System.out.printf("Admission: %s (utilization %.3f, density %.3f, demand %s)\n",
+                    verdict, utilization, density, demandMet ? "met" : "exceeded");
+        }
+    }
+
+    /** Deadline misses and the lateness distribution (completion - deadline) of one run. */
+    public static class DeadlineReport {
+        private final int jobs;
+        private final int deadlineMisses;
+        private final long minLateness;
+        private final double meanLateness;
+        private final long p50Lateness;
+        private final long p90Lateness;
+        private final long p99Lateness;
+        private final long maxLateness;
+
+        DeadlineReport(long[] lateness, int count) {
+            Arrays.sort(lateness, 0, count);
+            int misses = 0;
+            double sum = 0;
+            for (int i = 0; i < count; i++) {
+                if (lateness[i] > 0) {
+                    misses++;
+                }
+                sum += lateness[i];
+            }
+            this.jobs = count;
+            this.deadlineMisses = misses;
+            this.minLateness = count == 0 ? 0 : lateness[0];
+            this.meanLateness = count == 0 ? 0 : sum / count;
+            this.p50Lateness = percentile(lateness, count, 50);
+            this.p90Lateness = percentile(lateness, count, 90);
+            this.p99Lateness = percentile(lateness, count, 99);
+            this.maxLateness = count == 0 ? 0 : lateness[count - 1];
+        }
+
+        private static long percentile(long[] sorted, int count, int p) {
+            if (count == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100.0 * count);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        public int getJobs() { return jobs; }
+        public int getDeadlineMisses() { return deadlineMisses; }
+        public long getMinLateness() { return minLateness; }
+        public double getMeanLateness() { return meanLateness; }
+        public long getP50Lateness() { return p50Lateness; }
+        public long getP90Lateness() { return p90Lateness; }
+        public long getP99Lateness() { return p99Lateness; }
+        public long getMaxLateness() { return maxLateness; }
+
+        public void print() {
+            System.out.println("Deadline Misses: " + deadlineMisses + " of " + jobs + " jobs");
+            System.out.printf("Lateness: min %d, mean %.2f, p50 %d, p90 %d, p99 %d, max %d\n",
+                    minLateness, meanLateness, p50Lateness, p90Lateness, p99Lateness, maxLateness);
+        }
+    }
+
+    public EDFScheduler(List<Process> processes, int contextSwitch, int horizon) {
+        this(processes, SwitchCostModel.flat(contextSwitch), horizon);
+    }
+
+    /** {@code switchCost} sees the ids of the processes that own the jobs. */
+    public EDFScheduler(List<Process> processes, SwitchCostModel switchCost, int horizon) {
+        this.processes = processes;
+        this.switchCost = switchCost;
+        this.horizon = horizon;
+        this.table = new ProcessTable(processes);
+    }
+
+    public List<Process> getProcesses() {
+        return processes;
+    }
+
+    public DeadlineReport getReport() {
+        return report;
+    }
+
+    public void run() {
+        admit(processes).print();
+        ScheduleResult result = simulate();
+        result.print();
+        report.print();
+    }
+
+    private static long relativeDeadline(Process p) {
+        if (p.getDeadline() > 0) {
+            return p.getDeadline();
+        }
+        return p.getPeriod() > 0 ? p.getPeriod() : NO_DEADLINE;
+    }
+
+    /**
+     * O(n log n) admission test over the processes as tasks. Single jobs count
+     * as tasks with an infinite period.
+     * <ul>
+     *   <li>utilization: sum of C/T over periodic tasks, which must be &lt;= 1</li>
+     *   <li>density: sum of C/min(D, T), where &lt;= 1 is enough for EDF</li>
+     *   <li>demand: with each task's first job sorted by absolute deadline, the
+     *       work due by each deadline must fit between the earliest of those
+     *       releases and that deadline</li>
+     * </ul>
+     */
+    public static Admission admit(List<Process> processes) {
+        double utilization = 0;
+        double density = 0;
+        int n = processes.size();
+        // (absolute deadline, index) packed into one long each, sorted as primitives.
+        long[] byDeadline = new long[n];
+        int count = 0;
+
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            long d = relativeDeadline(p);
+            if (p.getPeriod() > 0) {
+                utilization += (double) p.getBurstTime() / p.getPeriod();
+            }
+            if (d != NO_DEADLINE) {
+                density += (double) p.getBurstTime() / Math.min(d, p.getPeriod() > 0 ? p.getPeriod() : d);
+                byDeadline[count++] = ((p.getArrivalTime() + d) << 31) | i;
+            }
+        }
+        Arrays.sort(byDeadline, 0, count);
+
+        boolean demandMet = true;
+        long demand = 0;
+        long earliestRelease = Long.MAX_VALUE;
+        for (int k = 0; k < count && demandMet; k++) {
+            Process p = processes.get((int) (byDeadline[k] & Integer.MAX_VALUE));
+            demand += p.getBurstTime();
+            earliestRelease = Math.min(earliestRelease, p.getArrivalTime());
+            demandMet = demand <= (byDeadline[k] >>> 31) - earliestRelease;
+        }
+
+        return new Admission(utilization, density, demandMet);
+    }
+
+    private void expandJobs() {
+        int n = table.size();
+        long total = 0;
+        for (int id = 0; id < n; id++) {
+            if (table.get(id).hasIo()) {
+                throw new IllegalArgumentException("EDFScheduler does not model I/O bursts: " + table.get(id).getName());
+            }
+            total += jobsOf(table.get(id));
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many jobs before horizon " + horizon + ": " + total);
+        }
+
+        jobCount = (int) total;
+        jobTask = new int[jobCount];
+        jobIndex = new int[jobCount];
+        release = new int[jobCount];
+        absoluteDeadline = new long[jobCount];
+        completion = new int[jobCount];
+
+        // Sort by (release, task id, instance) through one packed long per job.
+        long[] keys = new long[jobCount];
+        int j = 0;
+        for (int id = 0; id < n; id++) {
+            Process p = table.get(id);
+            long d = relativeDeadline(p);
+            int jobs = jobsOf(p);
+            for (int k = 0; k < jobs; k++) {
+                jobTask[j] = id;
+                jobIndex[j] = k;
+                release[j] = p.getArrivalTime() + k * p.getPeriod();
+                absoluteDeadline[j] = d == NO_DEADLINE ? NO_DEADLINE : release[j] + d;
+                keys[j] = ((long) release[j] << 32) | j;
+                j++;
+            }
+        }
+        Arrays.sort(keys);
+        int[] order = new int[jobCount];
+        for (int i = 0; i < jobCount; i++) {
+            order[i] = (int) keys[i];
+        }
+        permute(order);
+    }
+
+    private int jobsOf(Process p) {
+        if (p.getPeriod() <= 0 || horizon <= p.getArrivalTime()) {
+            return 1;
+        }
+        return (horizon - p.getArrivalTime() + p.getPeriod() - 1) / p.getPeriod();
+    }
+
+    /** Reorders the job arrays so job ids follow release order. */
+    private void permute(int[] order) {
+        int[] task = new int[jobCount];
+        int[] index = new int[jobCount];
+        int[] rel = new int[jobCount];
+        long[] dl = new long[jobCount];
+        for (int i = 0; i < jobCount; i++) {
+            task[i] = jobTask[order[i]];
+            index[i] = jobIndex[order[i]];
+            rel[i] = release[order[i]];
+            dl[i] = absoluteDeadline[order[i]];
+        }
+        jobTask = task;
+        jobIndex = index;
+        release = rel;
+        absoluteDeadline = dl;
+    }
+
+    public ScheduleResult simulate() {
+        expandJobs();
+        switchCost.reset(table.size());
+
+        int[] remaining = new int[jobCount];
+        for (int j = 0; j < jobCount; j++) {
+            remaining[j] = table.get(jobTask[j]).getBurstTime();
+        }
+
+        IntHeap readyQueue = new IntHeap(Math.min(jobCount, 1 << 16), (a, b) -> {
+            int c = Long.compare(absoluteDeadline[a], absoluteDeadline[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        });
+
+        IntList executionOrder = new IntList();
+        long currentTime = 0;
+        int nextRelease = 0;
+        int completed = 0;
+        int lastJob = -1;
+
+        while (completed < jobCount) {
+            nextRelease = releaseJobs(readyQueue, nextRelease, currentTime);
+
+            if (readyQueue.isEmpty()) {
+                currentTime = release[nextRelease];
+                continue;
+            }
+
+            int current = readyQueue.peek();
+            if (lastJob != -1 && lastJob != current) {
+                currentTime += switchCost.switchCost(jobTask[lastJob], jobTask[current], currentTime);
+                nextRelease = releaseJobs(readyQueue, nextRelease, currentTime);
+                current = readyQueue.peek();
+            }
+            if (current != lastJob) {
+                executionOrder.add(current);
+            }
+            lastJob = current;
+
+            // Run until the job finishes or the next release may preempt it.
+            long runUntil = currentTime + remaining[current];
+            if (nextRelease < jobCount && release[nextRelease] < runUntil) {
+                runUntil = release[nextRelease];
+            }
+            remaining[current] -= (int) (runUntil - currentTime);
+            currentTime = runUntil;
+
+            if (remaining[current] <= 0) {
+                readyQueue.pop();
+                completion[current] = (int) currentTime;
+                completed++;
+            }
+        }
+
+        long[] lateness = new long[jobCount];
+        int withDeadline = 0;
+        for (int j = 0; j < jobCount; j++) {
+            if (absoluteDeadline[j] != NO_DEADLINE) {
+                lateness[withDeadline++] = completion[j] - absoluteDeadline[j];
+            }
+        }
+        report = new DeadlineReport(lateness, withDeadline);
+
+        return buildResult(executionOrder);
+    }
+
+    /** Pushes every job released by {@code now} as one batch and returns the first job not yet released. */
+    private int releaseJobs(IntHeap readyQueue, int nextRelease, long now) {
+        int end = nextRelease;
+        while (end < jobCount && release[end] <= now) {
+            end++;
+        }
+        readyQueue.pushRange(nextRelease, end);
+        return end;
+    }
+
+    /**
+     * One result row per job. Jobs of periodic processes are named "name#k".
+     * Each Process keeps the waiting and turnaround time of its worst job.
+     */
+    private ScheduleResult buildResult(IntList executionOrder) {
+        for (Process p : processes) {
+            p.setWaitingTime(0);
+            p.setTurnaroundTime(0);
+        }
+
+        String[] names = new String[jobCount];
+        int[] firstJob = new int[table.size() + 1];
+        for (int j = 0; j < jobCount; j++) {
+            Process p = table.get(jobTask[j]);
+            names[j] = p.getPeriod() > 0 ? p.getName() + "#" + jobIndex[j] : p.getName();
+            firstJob[jobTask[j] + 1]++;
+        }
+
+        // Group job ids by process; within a process, ids already follow instance order.
+        for (int id = 0; id < table.size(); id++) {
+            firstJob[id + 1] += firstJob[id];
+        }
+        int[] fill = Arrays.copyOf(firstJob, table.size());
+        int[] byProcess = new int[jobCount];
+        for (int j = 0; j < jobCount; j++) {
+            byProcess[fill[jobTask[j]]++] = j;
+        }
+
+        processes.sort(Comparator.comparing(Process::getName));
+        List<ScheduleResult.ProcessResult> results = new ArrayList<>(jobCount);
+        for (Process p : processes) {
+            for (int i = firstJob[p.getId()]; i < firstJob[p.getId() + 1]; i++) {
+                int j = byProcess[i];
+                int burst = p.getBurstTime();
+                int turnaround = completion[j] - release[j];
+                results.add(new ScheduleResult.ProcessResult(names[j], turnaround - burst, turnaround));
+
+                if (turnaround >= p.getTurnaroundTime()) {
+                    p.setRemainingTime(0);
+                    p.setCompletionTime(completion[j]);
+                    p.setTurnaroundTime(turnaround);
+                    p.setWaitingTime(turnaround - burst);
+                }
+            }
+        }
+
+        List<String> order = new ArrayList<>(executionOrder.size());
+        for (int i = 0; i < executionOrder.size(); i++) {
+            order.add(names[executionOrder.get(i)]);
+        }
+        return new ScheduleResult("EDF Scheduling", order, results, null);
+    }
+}
@@ -0,0 +1,143 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Round Robin engine that produces the same schedule as {@link RoundRobin}
+ * but works on primitive arrays indexed by process id.
+ *
+ * The ready queue is an int ring buffer sized to the workload, and a dispatched
+ * process runs its whole slice (a full quantum, or less if it finishes first) in
+ * one step. That is safe because nothing else touches the queue during a slice.
+ * Processes arriving during the slice are enqueued before the preempted process,
+ * just as the tick-by-tick loop does. After setup the loop allocates nothing.
+ * Workloads with I/O bursts are rejected; use {@link RoundRobin} for those.
+ */
+public class FastRoundRobin {
+    private final int quantum;
+    private final SwitchCostModel switchCost;
+    private final List<Process> processes;
+    private final ProcessTable table;
+    private IntList executionOrder;
+
+    public FastRoundRobin(List<Process> processes, int quantum, int contextSwitch) {
+        this(processes, quantum, SwitchCostModel.flat(contextSwitch));
+    }
+
+    public FastRoundRobin(List<Process> processes, int quantum, SwitchCostModel switchCost) {
+        this.processes = processes;
+        this.quantum = quantum;
+        this.switchCost = switchCost;
+        this.table = new ProcessTable(processes);
+        this.executionOrder = new IntList();
+    }
+
+    public List<Process> getProcesses() {
+        return processes;
+    }
+
+    public void run() {
+        simulate().print();
+    }
+
+    public ScheduleResult simulate() {
+        int n = table.size();
+        int[] arrival = new int[n];
+        int[] burst = new int[n];
+        int[] remaining = new int[n];
+        int[] completion = new int[n];
+        for (int id = 0; id < n; id++) {
+            Process p = table.get(id);
+            if (p.hasIo()) {
+                throw new IllegalArgumentException("FastRoundRobin does not model I/O bursts, use RoundRobin: " + p.getName());
+            }
+            arrival[id] = p.getArrivalTime();
+            burst[id] = p.getBurstTime();
+            remaining[id] = burst[id];
+        }
+
+        processes.sort(Comparator.comparingInt(Process::getArrivalTime).thenComparingInt(Process::getId));
+        ArrivalIndex arrivals = new ArrivalIndex(table);
+        int[] byArrival = arrivals.order();
+
+        switchCost.reset(n);
+        int contextSwitchTime = switchCost.fixedCost();
+        IntRingBuffer readyQueue = new IntRingBuffer(n);
+        // Grown as entries are added: the solo jump below records one entry for
+        // many quanta, so the burst lengths say nothing about the final size.
+        executionOrder = new IntList();
+        int currentTime = 0;
+        boolean firstExecution = true;
+
+        while (arrivals.hasNext() || !readyQueue.isEmpty()) {
+            int from = arrivals.position();
+            readyQueue.offerAll(byArrival, from, arrivals.release(currentTime));
+
+            if (readyQueue.isEmpty()) {
+                currentTime = arrivals.nextArrival();
+                continue;
+            }
+
+            int current = readyQueue.poll();
+            int previous = firstExecution ? -1 : executionOrder.get(executionOrder.size() - 1);
+            executionOrder.add(current);
+            if (!firstExecution) {
+                currentTime += switchCost.switchCost(previous, current, currentTime);
+            }
+            firstExecution = false;
+
+            // A process with nothing left still occupies one tick, like the reference loop.
+            int slice;
+            if (remaining[current] <= 0) {
+                slice = 1;
+            } else if (quantum <= 0) {
+                slice = remaining[current];
+            } else {
+                slice = Math.min(quantum, remaining[current]);
+            }
+            remaining[current] -= slice;
+            currentTime += slice;
+
+            // Alone on the CPU: every further quantum is the same process being
+            // re-dispatched, so jump over all of them up to the next arrival.
+            // That needs every switch to cost the same.
+            if (remaining[current] > 0 && readyQueue.isEmpty() && quantum > 0 && contextSwitchTime >= 0) {
+                int nextArrival = arrivals.nextArrival();
+                if (nextArrival > currentTime) {
+                    long round = (long) contextSwitchTime + quantum;
+                    long roundsToFinish = (remaining[current] + quantum - 1) / quantum;
+                    long roundsBeforeArrival = nextArrival == Integer.MAX_VALUE
+                            ? roundsToFinish
+                            : (nextArrival - currentTime + round - 1) / round;
+                    long rounds = Math.min(roundsToFinish, roundsBeforeArrival);
+                    if (rounds == roundsToFinish) {
+                        currentTime += (int) ((rounds - 1) * round + contextSwitchTime
+                                + remaining[current] - (rounds - 1) * quantum);
+                        remaining[current] = 0;
+                    } else {
+                        currentTime += (int) (rounds * round);
+                        remaining[current] -= (int) (rounds * quantum);
+                    }
+                }
+            }
+
+            from = arrivals.position();
+            readyQueue.offerAll(byArrival, from, arrivals.release(currentTime));
+
+            if (remaining[current] <= 0) {
+                completion[current] = currentTime;
+            } else {
+                readyQueue.offer(current);
+            }
+        }
+
+        for (int id = 0; id < n; id++) {
+            Process p = table.get(id);
+            p.setRemainingTime(remaining[id]);
+            p.setCompletionTime(completion[id]);
+            p.setTurnaroundTime(completion[id] - arrival[id]);
+            p.setWaitingTime(p.getTurnaroundTime() - burst[id]);
+        }
+        return ScheduleResult.of("Round Robin Scheduling", table, executionOrder, processes);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example;
+
+/**
+ * Fenwick (binary indexed) tree over non-negative weights, one slot per id.
+ * Supports point updates, prefix sums and weighted sampling in O(log n).
+ */
+public class FenwickTree {
+    private final long[] tree;
+    private final long[] weights;
+    private long total;
+
+    public FenwickTree(int size) {
+        this.tree = new long[size + 1];
+        this.weights = new long[size];
+    }
+
+    public void set(int index, long weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must be >= 0, got " + weight);
+        }
+        long delta = weight - weights[index];
+        weights[index] = weight;
+        total += delta;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Sets the weight of every index in {@code indexes[from..to)} to its entry
+     * in {@code values}. A batch big enough that one update per index would
+     * cost more than rebuilding rebuilds the whole tree in O(n).
+     */
+    public void setAll(int[] indexes, int from, int to, long[] values) {
+        int n = weights.length;
+        int count = to - from;
+        if ((long) count * (32 - Integer.numberOfLeadingZeros(n)) < n) {
+            for (int i = from; i < to; i++) {
+                set(indexes[i], values[indexes[i]]);
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            if (values[indexes[i]] < 0) {
+                throw new IllegalArgumentException("Weight must be >= 0, got " + values[indexes[i]]);
+            }
+        }
+        for (int i = from; i < to; i++) {
+            int index = indexes[i];
+            total += values[index] - weights[index];
+            weights[index] = values[index];
+        }
+        for (int i = 1; i <= n; i++) {
+            tree[i] = weights[i - 1];
+        }
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    public long get(int index) { return weights[index]; }
+    public long total() { return total; }
+
+    /** Sum of the weights of indexes 0..index, inclusive. */
+    public long prefixSum(int index) {
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the smallest index whose inclusive prefix sum exceeds
+     * {@code target}. For target uniform in [0, total()) this picks an index
+     * with probability proportional to its weight.
+     */
+    public int find(long target) {
+        if (target < 0 || target >= total) {
+            throw new IllegalArgumentException("Target " + target + " outside [0, " + total + ")");
+        }
+        int pos = 0;
+        int step = Integer.highestOneBit(tree.length - 1);
+        for (; step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] <= target) {
+                pos = next;
+                target -= tree[next];
+            }
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example;
+
+/** Charges the same time for every context switch. */
+public class FlatSwitchCost implements SwitchCostModel {
+    private final int cost;
+
+    public FlatSwitchCost(int cost) {
+        this.cost = cost;
+    }
+
+    @Override
+    public void reset(int processCount) {
+    }
+
+    @Override
+    public int switchCost(int from, int to, long now) {
+        return cost;
+    }
+
+    @Override
+    public SwitchCostModel copy() {
+        return this;
+    }
+
+    @Override
+    public int fixedCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return "flat(" + cost + ")";
+    }
+}
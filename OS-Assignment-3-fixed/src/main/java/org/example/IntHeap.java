@@ -0,0 +1,135 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of process ids.
+ * Ordering comes from a comparator over ids, so the keys themselves (pass
+ * values, deadlines, ...) stay in the scheduler's own primitive arrays. A key
+ * must not change while its id is in the heap.
+ */
+public class IntHeap {
+    public interface IdComparator {
+        int compare(int a, int b);
+    }
+
+    private final IdComparator comparator;
+    private int[] heap;
+    private int size;
+
+    public IntHeap(int initialCapacity, IdComparator comparator) {
+        this.heap = new int[Math.max(1, initialCapacity)];
+        this.comparator = comparator;
+    }
+
+    /** Copies the contents of {@code other}, ordered by a new comparator over the same keys. */
+    public IntHeap(IntHeap other, IdComparator comparator) {
+        this.heap = other.heap.clone();
+        this.size = other.size;
+        this.comparator = comparator;
+    }
+
+    public void push(int id) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (comparator.compare(id, heap[parent]) >= 0) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = id;
+    }
+
+    /** Pushes {@code ids[from..to)}. */
+    public void pushAll(int[] ids, int from, int to) {
+        int count = to - from;
+        if (count < size) {
+            for (int i = from; i < to; i++) {
+                push(ids[i]);
+            }
+            return;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(ids, from, heap, size, count);
+        size += count;
+        heapify();
+    }
+
+    /** Pushes the consecutive ids {@code first..end)}. */
+    public void pushRange(int first, int end) {
+        int count = end - first;
+        if (count < size) {
+            for (int id = first; id < end; id++) {
+                push(id);
+            }
+            return;
+        }
+        ensureCapacity(size + count);
+        for (int id = first; id < end; id++) {
+            heap[size++] = id;
+        }
+        heapify();
+    }
+
+    /**
+     * Restores the heap order bottom-up in O(size). A batch at least as large
+     * as the heap goes in this way instead of one push at a time, so admitting
+     * k ids costs O(size + k) rather than O(k log size).
+     */
+    private void heapify() {
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(heap.length * 2, capacity));
+        }
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int top = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top;
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    private void siftDown(int i, int id) {
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && comparator.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (comparator.compare(id, heap[child]) <= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = id;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public void clear() { size = 0; }
+}
@@ -0,0 +1,119 @@
+package org.example;
+
+/**
+ * FIFO queue of primitive ints backed by a circular array.
+ * It only allocates when it has to grow, so a queue sized for the workload up
+ * front never allocates while a scheduler runs.
+ */
+public class IntRingBuffer {
+    private int[] data;
+    private int head;
+    private int size;
+
+    public IntRingBuffer(int initialCapacity) {
+        this.data = new int[Math.max(1, initialCapacity)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public void offer(int value) {
+        if (size == data.length) {
+            grow();
+        }
+        int tail = head + size;
+        if (tail >= data.length) {
+            tail -= data.length;
+        }
+        data[tail] = value;
+        size++;
+    }
+
+    /** Appends {@code values[from..to)} in order, copying in at most two blocks. */
+    public void offerAll(int[] values, int from, int to) {
+        int count = to - from;
+        while (size + count > data.length) {
+            grow();
+        }
+        int tail = slot(size);
+        int first = Math.min(count, data.length - tail);
+        System.arraycopy(values, from, data, tail, first);
+        System.arraycopy(values, from + first, data, 0, count - first);
+        size += count;
+    }
+
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        int value = data[head];
+        head++;
+        if (head == data.length) {
+            head = 0;
+        }
+        size--;
+        return value;
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return data[head];
+    }
+
+    /** The element {@code index} places behind the head. */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return data[slot(index)];
+    }
+
+    /** Removes the element {@code index} places behind the head, moving whichever side is shorter. */
+    public void removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                data[slot(i)] = data[slot(i - 1)];
+            }
+            head++;
+            if (head == data.length) {
+                head = 0;
+            }
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                data[slot(i)] = data[slot(i + 1)];
+            }
+        }
+        size--;
+    }
+
+    /** The elements from head to tail. */
+    public int[] toArray() {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = data[slot(i)];
+        }
+        return values;
+    }
+
+    private int slot(int index) {
+        int slot = head + index;
+        return slot >= data.length ? slot - data.length : slot;
+    }
+
+    private void grow() {
+        int[] bigger = new int[data.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = data[(head + i) % data.length];
+        }
+        data = bigger;
+        head = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public void clear() { head = 0; size = 0; }
+}
@@ -0,0 +1,99 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Lottery scheduling: randomized proportional share.
+ *
+ * Each process holds {@code priorityTime} tickets (at least 1). Before every
+ * quantum a ticket is drawn uniformly among all ready processes, and its owner
+ * runs. Ticket counts live in a Fenwick tree indexed by process id, so both
+ * the draw and the updates on arrival and completion are O(log n). The random
+ * generator is seeded, so a given seed always gives the same schedule.
+ * Processes with I/O bursts are rejected.
+ */
+public class LotteryScheduler {
+    private final List<Process> processes;
+    private final int quantum;
+    private final SwitchCostModel switchCost;
+    private final long seed;
+    private final ProcessTable table;
+    private final IntList executionOrder = new IntList();
+
+    public LotteryScheduler(List<Process> processes, int quantum, int contextSwitch, long seed) {
+        this(processes, quantum, SwitchCostModel.flat(contextSwitch), seed);
+    }
+
+    public LotteryScheduler(List<Process> processes, int quantum, SwitchCostModel switchCost, long seed) {
+        this.processes = processes;
+        this.quantum = quantum;
+        this.switchCost = switchCost;
+        this.seed = seed;
+        this.table = new ProcessTable(processes);
+    }
+
+    public List<Process> getProcesses() {
+        return processes;
+    }
+
+    public void run() {
+        simulate().print();
+    }
+
+    public ScheduleResult simulate() {
+        int n = table.size();
+        switchCost.reset(n);
+        int[] remaining = new int[n];
+        long[] ticketCount = new long[n];
+        for (int id = 0; id < n; id++) {
+            if (table.get(id).hasIo()) {
+                throw new IllegalArgumentException("LotteryScheduler does not model I/O bursts: " + table.get(id).getName());
+            }
+            remaining[id] = table.get(id).getBurstTime();
+            ticketCount[id] = Math.max(1, table.get(id).getPriorityTime());
+        }
+        ArrivalIndex arrivals = new ArrivalIndex(table);
+
+        FenwickTree tickets = new FenwickTree(n);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        executionOrder.clear();
+        int currentTime = 0;
+        int completed = 0;
+        int lastProcess = -1;
+
+        while (completed < n) {
+            int from = arrivals.position();
+            tickets.setAll(arrivals.order(), from, arrivals.release(currentTime), ticketCount);
+
+            if (tickets.total() == 0) {
+                currentTime = arrivals.nextArrival();
+                continue;
+            }
+
+            int current = tickets.find(random.nextLong(tickets.total()));
+            if (lastProcess != -1 && lastProcess != current) {
+                currentTime += switchCost.switchCost(lastProcess, current, currentTime);
+            }
+            executionOrder.add(current);
+
+            int slice = quantum > 0 ? Math.min(quantum, remaining[current]) : remaining[current];
+            remaining[current] -= slice;
+            currentTime += slice;
+            lastProcess = current;
+
+            if (remaining[current] == 0) {
+                completed++;
+                tickets.set(current, 0);
+                Process p = table.get(current);
+                p.setRemainingTime(0);
+                p.setCompletionTime(currentTime);
+                p.setTurnaroundTime(currentTime - p.getArrivalTime());
+                p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
+            }
+        }
+
+        processes.sort(Comparator.comparing(Process::getName));
+        return ScheduleResult.of("Lottery Scheduling", table, executionOrder, processes);
+    }
+}
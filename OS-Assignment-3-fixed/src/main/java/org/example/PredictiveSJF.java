@@ -0,0 +1,218 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Preemptive shortest-remaining-time-first that does not know burst lengths.
+ *
+ * Each process carries an estimate of its next CPU burst, starting from
+ * {@code initialEstimate} and updated by exponential averaging whenever a burst
+ * ends: {@code estimate = alpha * actual + (1 - alpha) * estimate}. The
+ * scheduler picks the ready process with the smallest estimated remaining time,
+ * i.e. the estimate minus the CPU time it has already used in this burst.
+ * Ties go to the earlier arrival, as in {@link PreemptiveSJF}.
+ *
+ * The choice only changes when a process arrives, wakes up or ends a burst, so
+ * the loop runs from one such event to the next. Processes with I/O bursts are
+ * supported the same way as in the other schedulers.
+ *
+ * For comparison every run also schedules a copy of the workload on the true
+ * remaining times, which gives the same schedule as {@link PreemptiveSJF}.
+ */
+public class PredictiveSJF {
+    private final List<Process> processes;
+    private final SwitchCostModel switchCost;
+    private final double alpha;
+    private final double initialEstimate;
+    private final ProcessTable table;
+    private final IntList executionOrder = new IntList();
+
+    private boolean clairvoyant;
+    private double[] estimate;
+    private int[] used;
+    private int bursts;
+    private double absoluteError;
+    private double error;
+    private PredictionReport report;
+
+    public static class PredictionReport {
+        private final int bursts;
+        private final double meanAbsoluteError;
+        private final double meanError;
+        private final double averageWaitingTime;
+        private final double clairvoyantAverageWaitingTime;
+
+        PredictionReport(int bursts, double absoluteError, double error,
+                         double averageWaitingTime, double clairvoyantAverageWaitingTime) {
+            this.bursts = bursts;
+            this.meanAbsoluteError = bursts == 0 ? 0 : absoluteError / bursts;
+            this.meanError = bursts == 0 ? 0 : error / bursts;
+            this.averageWaitingTime = averageWaitingTime;
+            this.clairvoyantAverageWaitingTime = clairvoyantAverageWaitingTime;
+        }
+
+        public int getBursts() { return bursts; }
+        public double getMeanAbsoluteError() { return meanAbsoluteError; }
+        /** Estimate minus actual, averaged; positive means bursts were overestimated. */
+        public double getMeanError() { return meanError; }
+        public double getClairvoyantAverageWaitingTime() { return clairvoyantAverageWaitingTime; }
+        /** How much longer processes wait on average than under clairvoyant SJF. */
+        public double getWaitingTimeGap() { return averageWaitingTime - clairvoyantAverageWaitingTime; }
+
+        public void print() {
+            System.out.printf("Prediction Error: mean absolute %.2f, mean %.2f over %d bursts\n",
+                    meanAbsoluteError, meanError, bursts);
+            System.out.printf("Waiting Time Gap vs Clairvoyant SJF: %.2f (%.2f vs %.2f)\n",
+                    getWaitingTimeGap(), averageWaitingTime, clairvoyantAverageWaitingTime);
+        }
+    }
+
+    public PredictiveSJF(List<Process> processes, int contextSwitch, double alpha, double initialEstimate) {
+        this(processes, SwitchCostModel.flat(contextSwitch), alpha, initialEstimate);
+    }
+
+    public PredictiveSJF(List<Process> processes, SwitchCostModel switchCost, double alpha, double initialEstimate) {
+        if (alpha < 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in [0, 1]: " + alpha);
+        }
+        if (initialEstimate <= 0) {
+            throw new IllegalArgumentException("initialEstimate must be > 0: " + initialEstimate);
+        }
+        this.processes = processes;
+        this.switchCost = switchCost;
+        this.alpha = alpha;
+        this.initialEstimate = initialEstimate;
+        this.table = new ProcessTable(processes);
+    }
+
+    public List<Process> getProcesses() {
+        return processes;
+    }
+
+    public PredictionReport getReport() {
+        return report;
+    }
+
+    public void run() {
+        simulate().print();
+        report.print();
+    }
+
+    public ScheduleResult simulate() {
+        List<Process> copies = new ArrayList<>();
+        for (Process p : processes) {
+            copies.add(new Process(p));
+        }
+        PredictiveSJF oracle = new PredictiveSJF(copies, switchCost.copy(), alpha, initialEstimate);
+        oracle.clairvoyant = true;
+        double clairvoyantWaitingTime = oracle.schedule().getAverageWaitingTime();
+
+        ScheduleResult result = schedule();
+        report = new PredictionReport(bursts, absoluteError, error, result.getAverageWaitingTime(), clairvoyantWaitingTime);
+        return result;
+    }
+
+    private ScheduleResult schedule() {
+        int n = table.size();
+        for (Process p : processes) {
+            p.restart();
+        }
+        estimate = new double[n];
+        used = new int[n];
+        Arrays.fill(estimate, initialEstimate);
+        executionOrder.clear();
+
+        ArrivalIndex arrivals = new ArrivalIndex(table);
+        IntHeap ready = new IntHeap(n, this::compare);
+        BlockedQueue blocked = new BlockedQueue(n);
+        switchCost.reset(n);
+
+        int currentTime = 0;
+        int completed = 0;
+        int running = -1;
+        int last = -1;
+        bursts = 0;
+        absoluteError = 0;
+        error = 0;
+
+        while (completed < n) {
+            int from = arrivals.position();
+            ready.pushAll(arrivals.order(), from, arrivals.release(currentTime));
+            while (blocked.hasWakeup(currentTime)) {
+                ready.push(blocked.wake());
+            }
+
+            if (running < 0) {
+                if (ready.isEmpty()) {
+                    currentTime = Math.min(arrivals.nextArrival(), blocked.nextWakeup());
+                    continue;
+                }
+                running = ready.pop();
+            } else if (!ready.isEmpty() && compare(ready.peek(), running) < 0) {
+                ready.push(running);
+                running = ready.pop();
+            }
+
+            if (last >= 0 && last != running) {
+                currentTime += switchCost.switchCost(last, running, currentTime);
+            }
+            executionOrder.add(running);
+
+            // Run until the next event, but at least one unit: events that
+            // passed during a context switch are looked at afterwards.
+            Process p = table.get(running);
+            int nextEvent = Math.min(arrivals.nextArrival(), blocked.nextWakeup());
+            int slice = p.getRemainingTime();
+            if (nextEvent > currentTime) {
+                slice = (int) Math.min(slice, (long) nextEvent - currentTime);
+            } else {
+                slice = Math.min(slice, 1);
+            }
+
+            p.setRemainingTime(p.getRemainingTime() - slice);
+            used[running] += slice;
+            blocked.recordCpu(currentTime, currentTime + slice);
+            currentTime += slice;
+            last = running;
+
+            if (p.getRemainingTime() == 0) {
+                int actual = used[running];
+                bursts++;
+                absoluteError += Math.abs(estimate[running] - actual);
+                error += estimate[running] - actual;
+                estimate[running] = alpha * actual + (1 - alpha) * estimate[running];
+                used[running] = 0;
+
+                if (p.hasNextBurst()) {
+                    blocked.block(p, currentTime);
+                } else {
+                    completed++;
+                    p.setCompletionTime(currentTime);
+                    p.setTurnaroundTime(currentTime - p.getArrivalTime());
+                    p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime() - p.getIoTime());
+                }
+                running = -1;
+            }
+        }
+
+        processes.sort(Comparator.comparing(Process::getName));
+        String title = String.format("Predictive SJF Scheduling (alpha = %.2f)", alpha);
+        return blocked.report(ScheduleResult.of(title, table, executionOrder, processes), processes);
+    }
+
+    private double predictedRemaining(int id) {
+        if (clairvoyant) {
+            return table.get(id).getRemainingTime();
+        }
+        return Math.max(0, estimate[id] - used[id]);
+    }
+
+    private int compare(int a, int b) {
+        int c = Double.compare(predictedRemaining(a), predictedRemaining(b));
+        if (c != 0) {
+            return c;
+        }
+        c = Integer.compare(table.get(a).getArrivalTime(), table.get(b).getArrivalTime());
+        return c != 0 ? c : Integer.compare(a, b);
+    }
+}
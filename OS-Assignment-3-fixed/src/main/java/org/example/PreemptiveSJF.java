@@ -3,13 +3,57 @@ import java.util.*;
 
 public class PreemptiveSJF {
     private final List<Process> processes;
-    private final int contextSwitch;
-    private final List<String> executionOrder;
+    private SwitchCostModel switchCost;
+    private final ProcessTable table;
+    private final IntList executionOrder;
+    private final CheckpointLog<State> checkpoints = new CheckpointLog<>();
+
+    private IntHeap ready;
+    private ArrivalIndex arrivals;
+    private BlockedQueue blocked;
+    private int currentTime;
+    private int completed;
+    private Process lastProcess;
+
+    private static class State extends Checkpoint {
+        private final IntHeap ready;
+        private final int arrivalPosition;
+        private final BlockedQueue blocked;
+        private final SwitchCostModel switchCost;
+        private final int completed;
+        private final int lastProcess;
+
+        State(PreemptiveSJF sjf) {
+            super(sjf.currentTime, sjf.table, sjf.executionOrder);
+            this.ready = new IntHeap(sjf.ready, sjf::compare);
+            this.arrivalPosition = sjf.arrivals.position();
+            this.blocked = new BlockedQueue(sjf.blocked);
+            this.switchCost = sjf.switchCost.copy();
+            this.completed = sjf.completed;
+            this.lastProcess = sjf.lastProcess == null ? -1 : sjf.lastProcess.getId();
+        }
+
+        void restore(PreemptiveSJF sjf) {
+            restore(sjf.table, sjf.executionOrder);
+            sjf.currentTime = getTime();
+            sjf.ready = new IntHeap(ready, sjf::compare);
+            sjf.arrivals.seek(arrivalPosition);
+            sjf.blocked = new BlockedQueue(blocked);
+            sjf.switchCost = switchCost.copy();
+            sjf.completed = completed;
+            sjf.lastProcess = lastProcess < 0 ? null : sjf.table.get(lastProcess);
+        }
+    }
 
     public PreemptiveSJF(List<Process> processes, int contextSwitch) {
+        this(processes, SwitchCostModel.flat(contextSwitch));
+    }
+
+    public PreemptiveSJF(List<Process> processes, SwitchCostModel switchCost) {
         this.processes = processes;
-        this.contextSwitch = contextSwitch;
-        this.executionOrder = new ArrayList<>();
+        this.switchCost = switchCost;
+        this.table = new ProcessTable(processes);
+        this.executionOrder = new IntList();
     }
 
     public List<Process> getProcesses() {
@@ -17,81 +61,119 @@ public class PreemptiveSJF {
     }
 
     public void run() {
-        int currentTime = 0;
-        int completed = 0;
-        int n = processes.size();
-        Process lastProcess = null;
+        simulate().print();
+    }
+
+    public ScheduleResult simulate() {
+        for (Process p : processes) {
+            p.restart();
+        }
+        ready = new IntHeap(table.size(), this::compare);
+        arrivals = new ArrivalIndex(table);
+        blocked = new BlockedQueue(table.size());
+        switchCost.reset(table.size());
+        currentTime = 0;
+        completed = 0;
+        lastProcess = null;
+        executionOrder.clear();
+        checkpoints.clear();
+
+        loop();
+        return result();
+    }
+
+    /**
+     * Records a checkpoint every {@code interval} time units during the next
+     * simulate(), so that update() can replay only the tail of the schedule.
+     */
+    public void enableCheckpoints(int interval) {
+        checkpoints.setInterval(interval);
+    }
+
+    /**
+     * Replaces the process with the same name as {@code changed} and
+     * re-simulates from the last checkpoint taken before either its old or its
+     * new arrival time. Nothing before that point can depend on the process.
+     */
+    public ScheduleResult update(Process changed) {
+        Process target = table.get(table.idOf(changed.getName()));
+        State checkpoint = checkpoints.rewindBefore(Math.min(target.getArrivalTime(), changed.getArrivalTime()));
+        if (checkpoint == null) {
+            target.redefine(changed);
+            return simulate();
+        }
+        checkpoint.restore(this);
+        target.redefine(changed);
+        checkpoints.redefine(target.getId(), changed);
+        int position = arrivals.position();
+        arrivals = new ArrivalIndex(table);
+        arrivals.seek(position);
+        loop();
+        return result();
+    }
+
+    private void loop() {
+        int n = table.size();
 
         while (completed < n) {
-            Process currentProcess = null;
-            int shortestTime = Integer.MAX_VALUE;
-
-            for (Process p : processes) {
-                if (p.getArrivalTime() <= currentTime && p.getRemainingTime() > 0) {
-                    if (p.getRemainingTime() < shortestTime) {
-                        shortestTime = p.getRemainingTime();
-                        currentProcess = p;
-                    } else if (p.getRemainingTime() == shortestTime) {
-                        if (currentProcess == null || p.getArrivalTime() < currentProcess.getArrivalTime()) {
-                            currentProcess = p;
-                        }
-                    }
-                }
+            if (checkpoints.isDue(currentTime)) {
+                checkpoints.record(new State(this));
             }
 
-            if (currentProcess == null) {
-                currentTime++;
-                continue;
+            int from = arrivals.position();
+            ready.pushAll(arrivals.order(), from, arrivals.release(currentTime));
+            while (blocked.hasWakeup(currentTime)) {
+                ready.push(blocked.wake());
             }
 
+            if (ready.isEmpty()) {
+                currentTime = nextEvent();
+                continue;
+            }
+            Process currentProcess = table.get(ready.pop());
 
             if (lastProcess != null && lastProcess != currentProcess) {
-                currentTime += contextSwitch;
+                currentTime += switchCost.switchCost(lastProcess.getId(), currentProcess.getId(), currentTime);
             }
 
-            executionOrder.add(currentProcess.getName());
+            executionOrder.add(currentProcess.getId());
             currentProcess.setRemainingTime(currentProcess.getRemainingTime() - 1);
+            blocked.recordCpu(currentTime, currentTime + 1);
             currentTime++;
             lastProcess = currentProcess;
 
-            if (currentProcess.getRemainingTime() == 0) {
+            if (currentProcess.getRemainingTime() == 0 && currentProcess.hasNextBurst()) {
+                blocked.block(currentProcess, currentTime);
+            } else if (currentProcess.getRemainingTime() == 0) {
                 completed++;
                 currentProcess.setCompletionTime(currentTime);
                 currentProcess.setTurnaroundTime(currentTime - currentProcess.getArrivalTime());
-                currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime());
+                currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime() - currentProcess.getIoTime());
+            } else {
+                ready.push(currentProcess.getId());
             }
         }
-        
-        printResults();
     }
-    
-    private void printResults() {
-        System.out.println("\n===== Preemptive SJF Scheduling =====");
-        
-        System.out.print("Execution Order: ");
-        String prev = "";
-        for (String p : executionOrder) {
-            if (!p.equals(prev)) {
-                System.out.print(p + " ");
-                prev = p;
-            }
+
+    /** Shortest remaining time first, then earlier arrival, then input order. */
+    private int compare(int a, int b) {
+        Process p = table.get(a);
+        Process q = table.get(b);
+        int c = Integer.compare(p.getRemainingTime(), q.getRemainingTime());
+        if (c != 0) {
+            return c;
         }
-        System.out.println();
-        
-        double totalWT = 0;
-        double totalTAT = 0;
-        
-        System.out.println("\nProcess Details:");
+        c = Integer.compare(p.getArrivalTime(), q.getArrivalTime());
+        return c != 0 ? c : Integer.compare(a, b);
+    }
+
+    /** The next time a process arrives or returns from I/O, when nothing is ready now. */
+    private int nextEvent() {
+        return Math.min(arrivals.nextArrival(), blocked.nextWakeup());
+    }
+
+    private ScheduleResult result() {
         processes.sort(Comparator.comparing(Process::getName));
-        
-        for (Process p : processes) {
-            System.out.println(p.getName() + " - Waiting Time: " + 
-                p.getWaitingTime() + ", Turnaround Time: " + p.getTurnaroundTime());
-            totalWT += p.getWaitingTime();
-            totalTAT += p.getTurnaroundTime();
-        }
-        
-        System.out.printf("\nAverage Waiting Time: %.2f\n", totalWT / processes.size());
-        System.out.printf("Average Turnaround Time: %.2f\n", totalTAT / processes.size());
+        return blocked.report(ScheduleResult.of("Preemptive SJF Scheduling", table, executionOrder, processes), processes);
     }
 }
\ No newline at end of file
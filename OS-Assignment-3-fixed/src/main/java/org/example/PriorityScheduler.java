@@ -5,107 +5,227 @@ import java.util.*;
 public class PriorityScheduler {
 
     private final List<Process> processes;
-    private final int contextSwitch;
+    private SwitchCostModel switchCost;
     private final int agingInterval;
-    private final Map<Process, Integer> waitingTimeForAging = new HashMap<>();
-    private final List<String> executionOrder = new ArrayList<>();
+    private final ProcessTable table;
+    private final int[] waitingTimeForAging;
+    private final IntList executionOrder = new IntList();
+    private final CheckpointLog<State> checkpoints = new CheckpointLog<>();
+
+    // Processes that have arrived, are not blocked and have not completed, in
+    // no particular order; readyPosition[id] is where id sits in the list.
+    private final IntList ready = new IntList();
+    private final int[] readyPosition;
+    private ArrivalIndex arrivals;
+    private BlockedQueue blocked;
+    private int currentTime;
+    private int completedCount;
+    private Process lastProcess;
+
+    private static class State extends Checkpoint {
+        private final int[] waitingTimeForAging;
+        private final int[] ready;
+        private final int arrivalPosition;
+        private final BlockedQueue blocked;
+        private final SwitchCostModel switchCost;
+        private final int completedCount;
+        private final int lastProcess;
+
+        State(PriorityScheduler ps) {
+            super(ps.currentTime, ps.table, ps.executionOrder);
+            this.waitingTimeForAging = ps.waitingTimeForAging.clone();
+            this.ready = ps.ready.toArray();
+            this.arrivalPosition = ps.arrivals.position();
+            this.blocked = new BlockedQueue(ps.blocked);
+            this.switchCost = ps.switchCost.copy();
+            this.completedCount = ps.completedCount;
+            this.lastProcess = ps.lastProcess == null ? -1 : ps.lastProcess.getId();
+        }
+
+        void restore(PriorityScheduler ps) {
+            restore(ps.table, ps.executionOrder);
+            System.arraycopy(waitingTimeForAging, 0, ps.waitingTimeForAging, 0, waitingTimeForAging.length);
+            ps.ready.clear();
+            ps.addReady(ready, 0, ready.length);
+            ps.arrivals.seek(arrivalPosition);
+            ps.blocked = new BlockedQueue(blocked);
+            ps.switchCost = switchCost.copy();
+            ps.currentTime = getTime();
+            ps.completedCount = completedCount;
+            ps.lastProcess = lastProcess < 0 ? null : ps.table.get(lastProcess);
+        }
+    }
 
     public PriorityScheduler(List<Process> processes, int contextSwitch, int agingInterval) {
+        this(processes, SwitchCostModel.flat(contextSwitch), agingInterval);
+    }
+
+    public PriorityScheduler(List<Process> processes, SwitchCostModel switchCost, int agingInterval) {
         this.processes = processes;
-        this.contextSwitch = contextSwitch;
+        this.switchCost = switchCost;
         this.agingInterval = agingInterval;
+        this.table = new ProcessTable(processes);
+        this.waitingTimeForAging = new int[table.size()];
+        this.readyPosition = new int[table.size()];
         for (Process p : processes) {
             p.setRemainingTime(p.getBurstTime());
-            waitingTimeForAging.put(p, 0);
         }
     }
 
     public void run() {
-        int currentTime = 0;
-        int completedCount = 0;
-        Process lastProcess = null;
+        simulate().print();
+    }
+
+    public ScheduleResult simulate() {
+        for (Process p : processes) {
+            p.restart();
+        }
+        Arrays.fill(waitingTimeForAging, 0);
+        ready.clear();
+        arrivals = new ArrivalIndex(table);
+        blocked = new BlockedQueue(table.size());
+        switchCost.reset(table.size());
+        currentTime = 0;
+        completedCount = 0;
+        lastProcess = null;
+        executionOrder.clear();
+        checkpoints.clear();
+
+        loop();
+        return result();
+    }
+
+    /**
+     * Records a checkpoint every {@code interval} time units during the next
+     * simulate(), so that update() can replay only the tail of the schedule.
+     */
+    public void enableCheckpoints(int interval) {
+        checkpoints.setInterval(interval);
+    }
+
+    /**
+     * Replaces the process with the same name as {@code changed} and
+     * re-simulates from the last checkpoint taken before either its old or its
+     * new arrival time. Nothing before that point can depend on the process.
+     */
+    public ScheduleResult update(Process changed) {
+        Process target = table.get(table.idOf(changed.getName()));
+        State checkpoint = checkpoints.rewindBefore(Math.min(target.getArrivalTime(), changed.getArrivalTime()));
+        if (checkpoint == null) {
+            target.redefine(changed);
+            return simulate();
+        }
+        checkpoint.restore(this);
+        target.redefine(changed);
+        checkpoints.redefine(target.getId(), changed);
+        int position = arrivals.position();
+        arrivals = new ArrivalIndex(table);
+        arrivals.seek(position);
+        loop();
+        return result();
+    }
+
+    private void loop() {
+        while (completedCount < table.size()) {
+            if (checkpoints.isDue(currentTime)) {
+                checkpoints.record(new State(this));
+            }
 
-        processes.sort(Comparator.comparingInt(Process::getArrivalTime));
+            while (blocked.hasWakeup(currentTime)) {
+                addReady(blocked.wake());
+            }
+            admitArrivals(currentTime);
 
-        while (completedCount < processes.size()) {
-            Process current = selectProcess(currentTime);
+            Process current = selectProcess();
 
             if (current == null) {
-                currentTime++;
+                // Nothing is ready, so no timer can age before the next event.
+                currentTime = nextEvent();
                 updateAgingTimers(currentTime, null);
                 continue;
             }
 
             if (lastProcess != null && lastProcess != current) {
-                for (int i = 0; i < contextSwitch; i++) {
+                int cost = switchCost.switchCost(lastProcess.getId(), current.getId(), currentTime);
+                for (int i = 0; i < cost; i++) {
                     currentTime++;
                     updateAgingTimers(currentTime, null);
                 }
             }
 
-            executionOrder.add(current.getName());
-            waitingTimeForAging.put(current, 0);
+            executionOrder.add(current.getId());
+            waitingTimeForAging[current.getId()] = 0;
 
             current.setRemainingTime(current.getRemainingTime() - 1);
+            blocked.recordCpu(currentTime, currentTime + 1);
             currentTime++;
 
             updateAgingTimers(currentTime, current);
 
-            if (current.getRemainingTime() == 0) {
+            if (current.getRemainingTime() == 0 && current.hasNextBurst()) {
+                removeReady(current.getId());
+                blocked.block(current, currentTime);
+            } else if (current.getRemainingTime() == 0) {
+                removeReady(current.getId());
                 completedCount++;
                 current.setCompletionTime(currentTime);
                 current.setTurnaroundTime(currentTime - current.getArrivalTime());
-                current.setWaitingTime(current.getTurnaroundTime() - current.getBurstTime());
+                current.setWaitingTime(current.getTurnaroundTime() - current.getBurstTime() - current.getIoTime());
             }
 
             lastProcess = current;
         }
-        
-        printResults();
-    }
-    
-    private void printResults() {
-        System.out.println("\n===== Priority Scheduling (with Aging) =====");
-        
-        System.out.print("Execution Order: ");
-        String prev = "";
-        for (String p : executionOrder) {
-            if (!p.equals(prev)) {
-                System.out.print(p + " ");
-                prev = p;
-            }
-        }
-        System.out.println();
-        
-        double totalWT = 0;
-        double totalTAT = 0;
-        
-        System.out.println("\nProcess Details:");
+    }
+
+    private ScheduleResult result() {
         processes.sort(Comparator.comparing(Process::getName));
-        
-        for (Process p : processes) {
-            System.out.println(p.getName() + " - Waiting Time: " + 
-                p.getWaitingTime() + ", Turnaround Time: " + p.getTurnaroundTime());
-            totalWT += p.getWaitingTime();
-            totalTAT += p.getTurnaroundTime();
+        return blocked.report(ScheduleResult.of("Priority Scheduling (with Aging)", table, executionOrder, processes), processes);
+    }
+
+    /** The next time a process arrives or returns from I/O, when nothing is ready now. */
+    private int nextEvent() {
+        return Math.min(arrivals.nextArrival(), blocked.nextWakeup());
+    }
+
+    /** Adds everything that has arrived by {@code now} to the ready list in one block. */
+    private void admitArrivals(int now) {
+        int from = arrivals.position();
+        addReady(arrivals.order(), from, arrivals.release(now));
+    }
+
+    private void addReady(int id) {
+        readyPosition[id] = ready.size();
+        ready.add(id);
+    }
+
+    private void addReady(int[] ids, int from, int to) {
+        int start = ready.size();
+        ready.addAll(ids, from, to);
+        for (int i = from; i < to; i++) {
+            readyPosition[ids[i]] = start + i - from;
         }
-        
-        System.out.printf("\nAverage Waiting Time: %.2f\n", totalWT / processes.size());
-        System.out.printf("Average Turnaround Time: %.2f\n", totalTAT / processes.size());
+    }
+
+    /** Removes {@code id} by moving the last entry into its place. */
+    private void removeReady(int id) {
+        int position = readyPosition[id];
+        int last = ready.get(ready.size() - 1);
+        ready.set(position, last);
+        readyPosition[last] = position;
+        ready.truncate(ready.size() - 1);
     }
 
     /**
      * Updates the waiting time counter for aging.
-     * All incomplete processes that have arrived and are NOT running get +1.
+     * All incomplete processes that have arrived and are NOT running or blocked get +1.
      */
     private void updateAgingTimers(int currentTime, Process runningProcess) {
-        for (Process p : processes) {
-            if (p.getArrivalTime() <= currentTime &&
-                    p.getRemainingTime() > 0 &&
-                    p != runningProcess) {
-
-                int currentWait = waitingTimeForAging.getOrDefault(p, 0);
-                waitingTimeForAging.put(p, currentWait + 1);
+        admitArrivals(currentTime);
+        int running = runningProcess == null ? -1 : runningProcess.getId();
+        for (int i = 0; i < ready.size(); i++) {
+            int id = ready.get(i);
+            if (id != running) {
+                waitingTimeForAging[id]++;
             }
         }
     }
@@ -113,27 +233,27 @@ public class PriorityScheduler {
     /**
      * Selects the process with the lowest Effective Priority.
      * Effective Priority = Base Priority - (Waiting Time / Aging Interval)
+     * An interval of 0 or less turns aging off.
      * Tie Breakers:
      * 1. Arrival Time (Earlier wins)
-     * 2. List Order (Stability)
+     * 2. Input Order (Stability)
      */
-    private Process selectProcess(int currentTime) {
+    private Process selectProcess() {
         Process best = null;
         double bestEffectivePriority = Double.MAX_VALUE;
 
-        for (Process p : processes) {
-            if (p.getArrivalTime() <= currentTime && p.getRemainingTime() > 0) {
-
-                int ageFactor = waitingTimeForAging.getOrDefault(p, 0) / agingInterval;
-                int effectivePriority = p.getPriorityTime() - ageFactor;
+        for (int i = 0; i < ready.size(); i++) {
+            Process p = table.get(ready.get(i));
+            int ageFactor = agingInterval > 0 ? waitingTimeForAging[p.getId()] / agingInterval : 0;
+            int effectivePriority = p.getPriorityTime() - ageFactor;
 
-                if (effectivePriority < bestEffectivePriority) {
-                    bestEffectivePriority = effectivePriority;
+            if (effectivePriority < bestEffectivePriority) {
+                bestEffectivePriority = effectivePriority;
+                best = p;
+            } else if (effectivePriority == bestEffectivePriority) {
+                if (p.getArrivalTime() < best.getArrivalTime()
+                        || (p.getArrivalTime() == best.getArrivalTime() && p.getId() < best.getId())) {
                     best = p;
-                } else if (effectivePriority == bestEffectivePriority) {
-                    if (best == null || p.getArrivalTime() < best.getArrivalTime()) {
-                        best = p;
-                    }
                 }
             }
         }
@@ -1,5 +1,7 @@
 package org.example;
 
+import java.util.Arrays;
+
 public class Process {
     private int arrivalTime;
     private int burstTime;
@@ -10,6 +12,11 @@ public class Process {
     private int completionTime;
     private String name;
     private int quantum;
+    private int id;
+    private int deadline;
+    private int period;
+    private int[] bursts;
+    private int phase;
 
     public Process(int arriveTime, int burstTime, int priorityTime, String name) {
         this.name = name;
@@ -21,6 +28,9 @@ public class Process {
         this.turnaroundTime = 0;
         this.completionTime = 0;
         this.quantum = 0;
+        this.id = -1;
+        this.deadline = 0;
+        this.period = 0;
     }
 
 
@@ -34,6 +44,11 @@ public class Process {
         this.turnaroundTime = other.turnaroundTime;
         this.completionTime = other.completionTime;
         this.quantum = other.quantum;
+        this.id = other.id;
+        this.deadline = other.deadline;
+        this.period = other.period;
+        this.bursts = other.bursts;
+        this.phase = other.phase;
     }
 
     public int getArrivalTime() { return arrivalTime; }
@@ -45,7 +60,12 @@ public class Process {
     public int getCompletionTime() { return completionTime; }
     public String getName() { return name; }
     public int getQuantum() { return quantum; }
+    public int getId() { return id; }
+    public int getDeadline() { return deadline; }
+    public int getPeriod() { return period; }
+    public int getPhase() { return phase; }
 
+    public void setArrivalTime(int arrivalTime) { this.arrivalTime = arrivalTime; }
     public void setBurstTime(int burstTime) { this.burstTime = burstTime; }
     public void setRemainingTime(int remainingTime) { this.remainingTime = remainingTime; }
     public void setPriorityTime(int priorityTime) { this.priorityTime = priorityTime; }
@@ -54,6 +74,10 @@ public class Process {
     public void setCompletionTime(int completionTime) { this.completionTime = completionTime; }
     public void setName(String name) { this.name = name; }
     public void setQuantum(int quantum) { this.quantum = quantum; }
+    public void setId(int id) { this.id = id; }
+    public void setDeadline(int deadline) { this.deadline = deadline; }
+    public void setPeriod(int period) { this.period = period; }
+    public void setPhase(int phase) { this.phase = phase; }
 
     public int getRemainingBurstTime() {
         return remainingTime;
@@ -63,6 +87,89 @@ public class Process {
         this.remainingTime = remainingBurstTime;
     }
 
+    /**
+     * Declares alternating CPU and I/O bursts: cpu, io, cpu, ..., cpu.
+     * The burst time becomes the total CPU time, and the process starts at its
+     * first CPU burst.
+     */
+    public void setBursts(int[] bursts) {
+        if (bursts.length % 2 == 0) {
+            throw new IllegalArgumentException("Bursts must start and end with a CPU burst: " + Arrays.toString(bursts));
+        }
+        int cpu = 0;
+        for (int i = 0; i < bursts.length; i++) {
+            if (bursts[i] < (i % 2 == 0 ? 1 : 0)) {
+                throw new IllegalArgumentException("CPU bursts must be > 0 and I/O bursts >= 0: " + Arrays.toString(bursts));
+            }
+            if (i % 2 == 0) {
+                cpu += bursts[i];
+            }
+        }
+        this.bursts = bursts.clone();
+        this.burstTime = cpu;
+        restart();
+    }
+
+    public int[] getBursts() {
+        return bursts == null ? new int[] { burstTime } : bursts.clone();
+    }
+
+    public boolean hasIo() {
+        return bursts != null && bursts.length > 1;
+    }
+
+    public int getIoTime() {
+        int io = 0;
+        if (bursts != null) {
+            for (int i = 1; i < bursts.length; i += 2) {
+                io += bursts[i];
+            }
+        }
+        return io;
+    }
+
+    /** True when the current CPU burst is followed by an I/O burst. */
+    public boolean hasNextBurst() {
+        return bursts != null && phase + 2 < bursts.length;
+    }
+
+    /**
+     * Ends the current CPU burst and moves on to the next one.
+     * Returns the length of the I/O burst in between.
+     */
+    public int startIo() {
+        int io = bursts[phase + 1];
+        phase += 2;
+        remainingTime = bursts[phase];
+        return io;
+    }
+
+    /** Rewinds to the first CPU burst before a new run. */
+    public void restart() {
+        phase = 0;
+        remainingTime = bursts == null ? burstTime : bursts[0];
+    }
+
+    /**
+     * Takes over the arrival, bursts, priority, quantum, deadline and period of
+     * {@code definition} and clears everything a previous run recorded.
+     */
+    public void redefine(Process definition) {
+        this.arrivalTime = definition.arrivalTime;
+        this.burstTime = definition.burstTime;
+        this.remainingTime = definition.burstTime;
+        this.priorityTime = definition.priorityTime;
+        this.quantum = definition.quantum;
+        this.deadline = definition.deadline;
+        this.period = definition.period;
+        this.bursts = definition.bursts;
+        this.phase = 0;
+        this.remainingTime = bursts == null ? burstTime : bursts[0];
+        this.waitingTime = 0;
+        this.turnaroundTime = 0;
+        this.completionTime = 0;
+    }
+
     public boolean isCompleted() {
         return remainingTime <= 0;
     }
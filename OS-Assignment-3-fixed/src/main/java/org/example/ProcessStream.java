@@ -0,0 +1,106 @@
+package org.example;
+
+import com.google.gson.stream.JsonReader;
+import java.io.*;
+import java.util.*;
+
+/**
+ * The processes of a workload file in the {@code test_cases} layout, read one
+ * at a time as they are asked for. Only the process being parsed is in memory.
+ *
+ * The settings are read when the stream is opened, so in the {@code input}
+ * object they have to come before the {@code processes} array, as they do in
+ * the bundled test cases. A setting found after the array fails the stream
+ * when the array ends rather than being silently ignored. A {@code switchCost}
+ * model is not supported; {@link BoundedScheduler} charges a flat switch.
+ */
+public class ProcessStream implements Iterator<Process>, Closeable {
+    private static final Set<String> SETTINGS = Set.of("contextSwitch", "rrQuantum", "switchCost");
+
+    private final JsonReader reader;
+    private String name;
+    private int contextSwitch;
+    private int rrQuantum;
+    private boolean inArray;
+
+    public ProcessStream(String name, Reader in) throws IOException {
+        this.name = name;
+        this.reader = new JsonReader(in);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (field.equals("name")) {
+                this.name = reader.nextString();
+            } else if (field.equals("input")) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "contextSwitch" -> contextSwitch = reader.nextInt();
+                        case "rrQuantum" -> rrQuantum = reader.nextInt();
+                        case "switchCost" -> throw new IllegalArgumentException(
+                                "A switchCost model is not supported when streaming: " + this.name);
+                        case "processes" -> {
+                            reader.beginArray();
+                            inArray = true;
+                            return;
+                        }
+                        default -> reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        throw new IllegalArgumentException("No processes in " + this.name);
+    }
+
+    public String getName() { return name; }
+    public int getContextSwitch() { return contextSwitch; }
+    public int getRrQuantum() { return rrQuantum; }
+
+    @Override
+    public boolean hasNext() {
+        if (!inArray) {
+            return false;
+        }
+        try {
+            if (reader.hasNext()) {
+                return true;
+            }
+            reader.endArray();
+            inArray = false;
+            checkRest();
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Process next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return Workload.readProcess(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkRest() throws IOException {
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (SETTINGS.contains(field)) {
+                throw new IllegalArgumentException(field + " must come before the processes when streaming: " + name);
+            }
+            reader.skipValue();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
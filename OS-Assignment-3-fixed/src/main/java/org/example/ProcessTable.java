@@ -0,0 +1,42 @@
+package org.example;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single name table for a workload.
+ * Every process gets a dense id (0..n-1) in load order, so schedulers can keep
+ * their per-process state in int-indexed arrays and only turn ids back into
+ * names when printing.
+ */
+public class ProcessTable {
+    private final Process[] byId;
+    private final String[] names;
+    private final Map<String, Integer> idsByName;
+
+    public ProcessTable(List<Process> processes) {
+        this.byId = new Process[processes.size()];
+        this.names = new String[processes.size()];
+        this.idsByName = new HashMap<>();
+        for (int id = 0; id < byId.length; id++) {
+            Process p = processes.get(id);
+            p.setId(id);
+            byId[id] = p;
+            names[id] = p.getName();
+            idsByName.put(p.getName(), id);
+        }
+    }
+
+    public int size() { return byId.length; }
+    public Process get(int id) { return byId[id]; }
+    public String nameOf(int id) { return names[id]; }
+
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown process: " + name);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,186 @@
+package org.example;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed store of scheduler results.
+ *
+ * A key is the SHA-256 of the scheduler name, its parameters and the parsed
+ * process list, so two runs of the same workload under the same settings share
+ * one entry. Entries live as JSON files in a local directory, bounded by a byte
+ * cap and evicted least-recently-used first. Recently used results are also kept
+ * in memory, so a warm hit does not read the file. It still refreshes the file's
+ * modification time, which is where the LRU order survives a restart.
+ */
+public class ResultCache {
+    // Bump whenever a scheduler changes its output, so stale entries stop matching.
+    private static final String FORMAT_VERSION = "2";
+    private static final int MEMORY_ENTRIES = 1024;
+
+    private final Gson gson = new Gson();
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, ScheduleResult> memory;
+    private final LinkedHashMap<String, Long> diskEntries;
+    private long diskBytes;
+    private int hits;
+    private int misses;
+
+    public ResultCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ScheduleResult> eldest) {
+                return size() > MEMORY_ENTRIES;
+            }
+        };
+        this.diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+        Files.createDirectories(directory);
+        loadIndex();
+    }
+
+    /**
+     * Rebuilds the LRU order of the on-disk entries from their modification
+     * times, which are refreshed on every hit.
+     */
+    private void loadIndex() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Map<Path, Long> modified = new HashMap<>();
+        for (Path file : files) {
+            modified.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.sort(Comparator.comparingLong(modified::get));
+        for (Path file : files) {
+            long size = Files.size(file);
+            diskEntries.put(keyOf(file), size);
+            diskBytes += size;
+        }
+    }
+
+    public static String key(String scheduler, List<Process> processes,
+                             int contextSwitch, int rrQuantum, int agingInterval) {
+        return key(scheduler, processes, String.valueOf(contextSwitch), rrQuantum, agingInterval);
+    }
+
+    /** A flat model keys the same as its plain context-switch time. */
+    public static String key(String scheduler, List<Process> processes,
+                             SwitchCostModel switchCost, int rrQuantum, int agingInterval) {
+        int fixed = switchCost.fixedCost();
+        return key(scheduler, processes, fixed >= 0 ? String.valueOf(fixed) : switchCost.toString(), rrQuantum, agingInterval);
+    }
+
+    private static String key(String scheduler, List<Process> processes,
+                              String contextSwitch, int rrQuantum, int agingInterval) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append('|').append(scheduler)
+          .append('|').append(contextSwitch)
+          .append('|').append(rrQuantum)
+          .append('|').append(agingInterval);
+        for (Process p : processes) {
+            sb.append('|').append(p.getName())
+              .append(',').append(p.getArrivalTime())
+              .append(',').append(p.getBurstTime())
+              .append(',').append(p.getPriorityTime())
+              .append(',').append(p.getQuantum())
+              .append(',').append(p.getDeadline())
+              .append(',').append(p.getPeriod());
+            if (p.hasIo()) {
+                sb.append(',').append(Arrays.toString(p.getBursts()));
+            }
+        }
+        return sha256(sb.toString());
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public synchronized ScheduleResult get(String key) throws IOException {
+        ScheduleResult result = memory.get(key);
+        if (diskEntries.get(key) == null) {
+            misses++;
+            return null;
+        }
+
+        Path file = fileOf(key);
+        try {
+            if (result == null) {
+                result = gson.fromJson(Files.readString(file), ScheduleResult.class);
+            }
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (NoSuchFileException e) {
+            diskBytes -= diskEntries.remove(key);
+            memory.remove(key);
+            misses++;
+            return null;
+        }
+        memory.put(key, result);
+        hits++;
+        return result;
+    }
+
+    public synchronized void put(String key, ScheduleResult result) throws IOException {
+        byte[] json = gson.toJson(result).getBytes(StandardCharsets.UTF_8);
+        Path tmp = Files.createTempFile(directory, key, ".tmp");
+        Files.write(tmp, json);
+        Files.move(tmp, fileOf(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Long previous = diskEntries.put(key, (long) json.length);
+        diskBytes += json.length - (previous == null ? 0 : previous);
+        memory.put(key, result);
+        evict();
+    }
+
+    public ScheduleResult getOrCompute(String key, Supplier<ScheduleResult> compute) throws IOException {
+        ScheduleResult result = get(key);
+        if (result == null) {
+            result = compute.get();
+            put(key, result);
+        }
+        return result;
+    }
+
+    private void evict() throws IOException {
+        Iterator<Map.Entry<String, Long>> it = diskEntries.entrySet().iterator();
+        while (diskBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            Files.deleteIfExists(fileOf(eldest.getKey()));
+            memory.remove(eldest.getKey());
+            diskBytes -= eldest.getValue();
+            it.remove();
+        }
+    }
+
+    private Path fileOf(String key) {
+        return directory.resolve(key + ".json");
+    }
+
+    private static String keyOf(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.length() - ".json".length());
+    }
+
+    public synchronized int size() { return diskEntries.size(); }
+    public synchronized long sizeInBytes() { return diskBytes; }
+    public synchronized int getHits() { return hits; }
+    public synchronized int getMisses() { return misses; }
+}
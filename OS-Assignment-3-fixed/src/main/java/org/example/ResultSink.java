@@ -0,0 +1,24 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Receives each process of a {@link BoundedScheduler} run as soon as it
+ * completes, in completion order. The times come as longs, since a long stream
+ * can run past what the int fields of {@link Process} hold. A sink must not
+ * hold on to the process: the scheduler drops its own reference right after
+ * the call.
+ */
+public interface ResultSink extends Closeable {
+    void accept(Process p, long completionTime, long waitingTime, long turnaroundTime) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    /** A sink that keeps nothing; the run's {@link BoundedScheduler.Summary} is then the only result. */
+    static ResultSink discard() {
+        return (p, completionTime, waitingTime, turnaroundTime) -> { };
+    }
+}
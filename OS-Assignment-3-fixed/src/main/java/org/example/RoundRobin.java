@@ -4,15 +4,65 @@ import java.util.*;
 
 public class RoundRobin {
     private int quantum;
-    private int contextSwitchTime;
+    private SwitchCostModel switchCost;
     private List<Process> processes;
-    private List<String> executionOrder;
+    private ProcessTable table;
+    private IntList executionOrder;
+    private final CheckpointLog<State> checkpoints = new CheckpointLog<>();
+    
+    private IntRingBuffer readyQueue;
+    private ArrivalIndex arrivals;
+    private BlockedQueue blocked;
+    private int currentTime;
+    private Process currentProcess;
+    private int quantumRemaining;
+    private boolean firstExecution;
+    
+    private static class State extends Checkpoint {
+        private final int[] readyQueue;
+        private final BlockedQueue blocked;
+        private final SwitchCostModel switchCost;
+        private final int currentProcess;
+        private final int quantumRemaining;
+        private final int arrivalPosition;
+        private final boolean firstExecution;
+        
+        State(RoundRobin rr) {
+            super(rr.currentTime, rr.table, rr.executionOrder);
+            this.readyQueue = rr.readyQueue.toArray();
+            this.blocked = new BlockedQueue(rr.blocked);
+            this.switchCost = rr.switchCost.copy();
+            this.currentProcess = rr.currentProcess == null ? -1 : rr.currentProcess.getId();
+            this.quantumRemaining = rr.quantumRemaining;
+            this.arrivalPosition = rr.arrivals.position();
+            this.firstExecution = rr.firstExecution;
+        }
+        
+        void restore(RoundRobin rr) {
+            restore(rr.table, rr.executionOrder);
+            rr.readyQueue.clear();
+            rr.readyQueue.offerAll(readyQueue, 0, readyQueue.length);
+            rr.blocked = new BlockedQueue(blocked);
+            rr.switchCost = switchCost.copy();
+            rr.currentTime = getTime();
+            rr.currentProcess = currentProcess < 0 ? null : rr.table.get(currentProcess);
+            rr.quantumRemaining = quantumRemaining;
+            rr.arrivals.seek(arrivalPosition);
+            rr.firstExecution = firstExecution;
+        }
+    }
     
     public RoundRobin(List<Process> processes, int quantum, int contextSwitch) {
+        this(processes, quantum, SwitchCostModel.flat(contextSwitch));
+    }
+    
+    public RoundRobin(List<Process> processes, int quantum, SwitchCostModel switchCost) {
         this.processes = processes;
         this.quantum = quantum;
-        this.contextSwitchTime = contextSwitch;
-        this.executionOrder = new ArrayList<>();
+        this.switchCost = switchCost;
+        this.table = new ProcessTable(processes);
+        this.executionOrder = new IntList();
+        this.readyQueue = new IntRingBuffer(table.size());
     }
     
     public List<Process> getProcesses() {
@@ -20,45 +70,88 @@ public class RoundRobin {
     }
     
     public void run() {
+        simulate().print();
+    }
+    
+    public ScheduleResult simulate() {
         schedule();
-        printResults();
+        return result();
+    }
+    
+    /**
+     * Records a checkpoint every {@code interval} time units during the next
+     * simulate(), so that update() can replay only the tail of the schedule.
+     */
+    public void enableCheckpoints(int interval) {
+        checkpoints.setInterval(interval);
+    }
+    
+    /**
+     * Replaces the process with the same name as {@code changed} and
+     * re-simulates from the last checkpoint taken before either its old or its
+     * new arrival time. Nothing before that point can depend on the process.
+     */
+    public ScheduleResult update(Process changed) {
+        Process target = table.get(table.idOf(changed.getName()));
+        State checkpoint = checkpoints.rewindBefore(Math.min(target.getArrivalTime(), changed.getArrivalTime()));
+        if (checkpoint == null) {
+            target.redefine(changed);
+            schedule();
+        } else {
+            checkpoint.restore(this);
+            target.redefine(changed);
+            checkpoints.redefine(target.getId(), changed);
+            processes.sort(Comparator.comparingInt(Process::getArrivalTime).thenComparingInt(Process::getId));
+            int position = arrivals.position();
+            arrivals = new ArrivalIndex(table);
+            arrivals.seek(position);
+            loop();
+        }
+        return result();
+    }
+    
+    private ScheduleResult result() {
+        return blocked.report(ScheduleResult.of("Round Robin Scheduling", table, executionOrder, processes), processes);
     }
     
     private void schedule() {
-        processes.sort(Comparator.comparingInt(Process::getArrivalTime));
+        processes.sort(Comparator.comparingInt(Process::getArrivalTime).thenComparingInt(Process::getId));
         
         for (Process p : processes) {
-            p.setRemainingBurstTime(p.getBurstTime());
+            p.restart();
         }
         
-        Queue<Process> readyQueue = new LinkedList<>();
-        int currentTime = 0;
-        Process currentProcess = null;
-        int quantumRemaining = 0;
-        int processIndex = 0;
-        boolean firstExecution = true;
-        
-        while (processIndex < processes.size() || !readyQueue.isEmpty() || currentProcess != null) {
-            
-            while (processIndex < processes.size() && 
-                   processes.get(processIndex).getArrivalTime() <= currentTime) {
-                readyQueue.offer(processes.get(processIndex));
-                processIndex++;
+        readyQueue.clear();
+        arrivals = new ArrivalIndex(table);
+        blocked = new BlockedQueue(table.size());
+        switchCost.reset(table.size());
+        currentTime = 0;
+        currentProcess = null;
+        quantumRemaining = 0;
+        firstExecution = true;
+        executionOrder.clear();
+        checkpoints.clear();
+        loop();
+    }
+    
+    private void loop() {
+        while (arrivals.hasNext() || !readyQueue.isEmpty() || currentProcess != null
+                || !blocked.isEmpty()) {
+            if (checkpoints.isDue(currentTime)) {
+                checkpoints.record(new State(this));
             }
             
+            admit();
+            
             if (currentProcess == null && !readyQueue.isEmpty()) {
-                currentProcess = readyQueue.poll();
+                currentProcess = table.get(readyQueue.poll());
                 quantumRemaining = quantum;
-                executionOrder.add(currentProcess.getName());
+                int previous = executionOrder.isEmpty() ? -1 : executionOrder.get(executionOrder.size() - 1);
+                executionOrder.add(currentProcess.getId());
                 
                 if (!firstExecution) {
-                    currentTime += contextSwitchTime;
-                    
-                    while (processIndex < processes.size() && 
-                           processes.get(processIndex).getArrivalTime() <= currentTime) {
-                        readyQueue.offer(processes.get(processIndex));
-                        processIndex++;
-                    }
+                    currentTime += switchCost.switchCost(previous, currentProcess.getId(), currentTime);
+                    admit();
                 }
                 firstExecution = false;
             }
@@ -66,61 +159,44 @@ public class RoundRobin {
             if (currentProcess != null) {
                 currentProcess.setRemainingBurstTime(currentProcess.getRemainingBurstTime() - 1);
                 quantumRemaining--;
+                blocked.recordCpu(currentTime, currentTime + 1);
                 currentTime++;
                 
-                while (processIndex < processes.size() && 
-                       processes.get(processIndex).getArrivalTime() <= currentTime) {
-                    readyQueue.offer(processes.get(processIndex));
-                    processIndex++;
-                }
+                admit();
                 
-                if (currentProcess.isCompleted()) {
+                if (currentProcess.isCompleted() && currentProcess.hasNextBurst()) {
+                    blocked.block(currentProcess, currentTime);
+                    currentProcess = null;
+                    quantumRemaining = 0;
+                }
+                else if (currentProcess.isCompleted()) {
                     currentProcess.setCompletionTime(currentTime);
                     currentProcess.setTurnaroundTime(currentTime - currentProcess.getArrivalTime());
-                    currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime());
+                    currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime() - currentProcess.getIoTime());
                     currentProcess = null;
                     quantumRemaining = 0;
                 }
                 else if (quantumRemaining == 0) {
-                    readyQueue.offer(currentProcess);
+                    readyQueue.offer(currentProcess.getId());
                     currentProcess = null;
                 }
             } 
             else {
-                if (processIndex < processes.size()) {
-                    currentTime = processes.get(processIndex).getArrivalTime();
-                } else {
+                int next = Math.min(arrivals.nextArrival(), blocked.nextWakeup());
+                if (next == Integer.MAX_VALUE) {
                     break;
                 }
+                currentTime = next;
             }
         }
     }
     
-    private void printResults() {
-        System.out.println("\n===== Round Robin Scheduling =====");
-
-        System.out.print("Execution Order: ");
-        String prev = "";
-        for (String proc : executionOrder) {
-            if (!proc.equals(prev)) {
-                System.out.print(proc + " ");
-                prev = proc;
-            }
-        }
-        System.out.println();
-
-        double totalWaitingTime = 0;
-        double totalTurnaroundTime = 0;
-
-        System.out.println("\nProcess Details:");
-        for (Process p : processes) {
-            System.out.println(p.getName() + " - Waiting Time: " + p.getWaitingTime() +
-                    ", Turnaround Time: " + p.getTurnaroundTime());
-            totalWaitingTime += p.getWaitingTime();
-            totalTurnaroundTime += p.getTurnaroundTime();
+    /** Queues every process that has arrived or finished its I/O by now. */
+    private void admit() {
+        int from = arrivals.position();
+        readyQueue.offerAll(arrivals.order(), from, arrivals.release(currentTime));
+        while (blocked.hasWakeup(currentTime)) {
+            readyQueue.offer(blocked.wake());
         }
-
-        System.out.printf("\nAverage Waiting Time: %.2f\n", totalWaitingTime / processes.size());
-        System.out.printf("Average Turnaround Time: %.2f\n", totalTurnaroundTime / processes.size());
     }
 }
\ No newline at end of file
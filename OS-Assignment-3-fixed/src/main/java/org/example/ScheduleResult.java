@@ -0,0 +1,159 @@
+package org.example;
+
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Outcome of one scheduler run, detached from the mutable Process objects.
+ * Field names follow the "expectedOutput" section of the test_cases JSON so a
+ * result can be serialized with Gson and compared or cached as is.
+ */
+public class ScheduleResult {
+    private final String scheduler;
+    private final List<String> executionOrder;
+    private final List<ProcessResult> processResults;
+    private final Map<String, List<Integer>> quantumHistory;
+    private final double averageWaitingTime;
+    private final double averageTurnaroundTime;
+    private final Double cpuUtilization;
+    private final Double ioOverlap;
+
+    public static class ProcessResult {
+        private final String name;
+        private final int waitingTime;
+        private final int turnaroundTime;
+
+        public ProcessResult(String name, int waitingTime, int turnaroundTime) {
+            this.name = name;
+            this.waitingTime = waitingTime;
+            this.turnaroundTime = turnaroundTime;
+        }
+
+        public String getName() { return name; }
+        public int getWaitingTime() { return waitingTime; }
+        public int getTurnaroundTime() { return turnaroundTime; }
+    }
+
+    public ScheduleResult(String scheduler, List<String> executionOrder, List<ProcessResult> processResults,
+                          Map<String, List<Integer>> quantumHistory) {
+        this.scheduler = scheduler;
+        this.executionOrder = executionOrder;
+        this.processResults = processResults;
+        this.quantumHistory = quantumHistory;
+
+        double totalWT = 0;
+        double totalTAT = 0;
+        for (ProcessResult r : processResults) {
+            totalWT += r.getWaitingTime();
+            totalTAT += r.getTurnaroundTime();
+        }
+        this.averageWaitingTime = totalWT / processResults.size();
+        this.averageTurnaroundTime = totalTAT / processResults.size();
+        this.cpuUtilization = null;
+        this.ioOverlap = null;
+    }
+
+    private ScheduleResult(ScheduleResult other, Double cpuUtilization, Double ioOverlap) {
+        this.scheduler = other.scheduler;
+        this.executionOrder = other.executionOrder;
+        this.processResults = other.processResults;
+        this.quantumHistory = other.quantumHistory;
+        this.averageWaitingTime = other.averageWaitingTime;
+        this.averageTurnaroundTime = other.averageTurnaroundTime;
+        this.cpuUtilization = cpuUtilization;
+        this.ioOverlap = ioOverlap;
+    }
+
+    /** Returns a copy that also reports CPU utilization and I/O overlap, as fractions. */
+    public ScheduleResult withIoStats(double cpuUtilization, double ioOverlap) {
+        return new ScheduleResult(this, cpuUtilization, ioOverlap);
+    }
+
+    /**
+     * Builds a result from a finished run. Consecutive duplicates in the
+     * per-tick execution order are collapsed, and processes are reported in
+     * the order of the given list.
+     */
+    public static ScheduleResult of(String scheduler, ProcessTable table, IntList executionOrder,
+                                    List<Process> processes) {
+        return of(scheduler, table, executionOrder, processes, null);
+    }
+
+    public static ScheduleResult of(String scheduler, ProcessTable table, IntList executionOrder,
+                                    List<Process> processes, IntList[] quantumHistory) {
+        List<String> order = new ArrayList<>();
+        int prev = -1;
+        for (int i = 0; i < executionOrder.size(); i++) {
+            int id = executionOrder.get(i);
+            if (id != prev) {
+                order.add(table.nameOf(id));
+                prev = id;
+            }
+        }
+
+        List<ProcessResult> results = new ArrayList<>(processes.size());
+        for (Process p : processes) {
+            results.add(new ProcessResult(p.getName(), p.getWaitingTime(), p.getTurnaroundTime()));
+        }
+
+        Map<String, List<Integer>> history = null;
+        if (quantumHistory != null) {
+            history = new LinkedHashMap<>();
+            for (int id = 0; id < table.size(); id++) {
+                List<Integer> values = new ArrayList<>(quantumHistory[id].size());
+                for (int i = 0; i < quantumHistory[id].size(); i++) {
+                    values.add(quantumHistory[id].get(i));
+                }
+                history.put(table.nameOf(id), values);
+            }
+        }
+
+        return new ScheduleResult(scheduler, order, results, history);
+    }
+
+    public String getScheduler() { return scheduler; }
+    public List<String> getExecutionOrder() { return executionOrder; }
+    public List<ProcessResult> getProcessResults() { return processResults; }
+    public Map<String, List<Integer>> getQuantumHistory() { return quantumHistory; }
+    public double getAverageWaitingTime() { return averageWaitingTime; }
+    public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
+    public Double getCpuUtilization() { return cpuUtilization; }
+    public Double getIoOverlap() { return ioOverlap; }
+
+    public void print() {
+        print(System.out);
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n===== " + scheduler + " =====");
+
+        if (quantumHistory != null) {
+            out.println("Quantum History:");
+            for (Map.Entry<String, List<Integer>> entry : quantumHistory.entrySet()) {
+                out.print(entry.getKey() + ": ");
+                out.println(entry.getValue());
+            }
+            out.println("--------------------------------------------------");
+        }
+
+        out.print("Execution Order: ");
+        for (String name : executionOrder) {
+            out.print(name + " ");
+        }
+        out.println();
+
+        out.println("\nProcess Details:");
+        for (ProcessResult r : processResults) {
+            out.println(r.getName() + " - Waiting Time: " + r.getWaitingTime() +
+                    ", Turnaround Time: " + r.getTurnaroundTime());
+        }
+
+        out.printf("\nAverage Waiting Time: %.2f\n", averageWaitingTime);
+        out.printf("Average Turnaround Time: %.2f\n", averageTurnaroundTime);
+
+        if (cpuUtilization != null) {
+            out.printf("CPU Utilization: %.2f%%\n", cpuUtilization * 100);
+            out.printf("I/O Overlap: %.2f%%\n", ioOverlap * 100);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package org.example;
+
+import com.google.gson.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Command-line entry point of the runnable JAR.
+ *
+ * Runs one scheduler, or all of them side by side, over a workload file or a
+ * directory of workload files in the {@code test_cases} layout, and writes the
+ * results as text, JSON or CSV.
+ */
+public class SchedulerCli {
+    private static final String USAGE = String.join("\n",
+            "Usage: java -jar scheduler.jar --input <file|dir> [options]",
+            "       java -jar scheduler.jar --serve <port> [--parallelism <n>]",
+            "  --input <path>        a workload JSON file, or a directory of them",
+            "  --scheduler <name>    ag, sjf, psjf, rr, priority, stride, lottery, edf or all (default all)",
+            "  --engine <name>       reference or fast (default reference; fast applies to rr)",
+            "  --load <mode>         stream: read each file when it is run (default)",
+            "                        memory: read every file before running any",
+            "  --parallelism <n>     worker threads (default: number of processors)",
+            "  --format <name>       text, json or csv (default text)",
+            "  --output <file>       write there instead of standard output",
+            "  --results <file>      bounded mode for rr or sjf on one file: stream the processes, write each",
+            "                        one to <file> as CSV when it completes, and output only the averages",
+            "  --serve <port>        answer POST /schedule on localhost instead (see SchedulerService)");
+
+    private Path input;
+    private List<String> policies = Comparison.POLICIES;
+    private boolean streaming = true;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private String format = "text";
+    private Path output;
+    private Path results;
+    private BoundedScheduler.Policy boundedPolicy;
+    private int servePort = -1;
+    private boolean help;
+
+    public static void main(String[] args) {
+        int status = execute(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /** Runs the command line and returns its exit status: 0, 1 on failure, 2 on bad arguments. */
+    static int execute(String[] args) {
+        SchedulerCli cli = new SchedulerCli();
+        try {
+            cli.parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return 2;
+        }
+        if (cli.help) {
+            System.out.println(USAGE);
+            return 0;
+        }
+
+        try {
+            if (cli.servePort >= 0) {
+                SchedulerService service = new SchedulerService(cli.servePort, cli.parallelism);
+                service.start();
+                System.out.println("Listening on http://localhost:" + service.getPort() + "/schedule");
+                return 0;
+            }
+            cli.run();
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error: " + describe(e));
+            return 1;
+        }
+    }
+
+    /** The message of {@code e} followed by each cause that adds something to it. */
+    static String describe(Throwable e) {
+        StringBuilder text = new StringBuilder(String.valueOf(e.getMessage()));
+        String shown = text.toString();
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message == null || !shown.contains(message)) {
+                text.append("\n  caused by ").append(cause);
+                shown = text.toString();
+            }
+        }
+        return text.toString();
+    }
+
+    private void parseArguments(String[] args) {
+        String scheduler = "all";
+        String engine = "reference";
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help") || option.equals("-h")) {
+                help = true;
+                return;
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--input" -> input = Paths.get(value);
+                case "--scheduler" -> scheduler = value.toLowerCase(Locale.ROOT);
+                case "--engine" -> engine = value.toLowerCase(Locale.ROOT);
+                case "--load" -> {
+                    if (!value.equals("stream") && !value.equals("memory")) {
+                        throw new IllegalArgumentException("Unknown load mode: " + value);
+                    }
+                    streaming = value.equals("stream");
+                }
+                case "--parallelism" -> {
+                    try {
+                        parallelism = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Not a number: " + value);
+                    }
+                    if (parallelism < 1) {
+                        throw new IllegalArgumentException("Parallelism must be >= 1: " + value);
+                    }
+                }
+                case "--format" -> {
+                    if (!List.of("text", "json", "csv").contains(value)) {
+                        throw new IllegalArgumentException("Unknown format: " + value);
+                    }
+                    format = value;
+                }
+                case "--output" -> output = Paths.get(value);
+                case "--results" -> results = Paths.get(value);
+                case "--serve" -> {
+                    try {
+                        servePort = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Not a port: " + value);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        if (input == null && servePort < 0) {
+            throw new IllegalArgumentException("--input is required");
+        }
+        policies = Comparison.policiesOf(scheduler, engine);
+        if (results != null) {
+            boundedPolicy = switch (scheduler) {
+                case "rr" -> BoundedScheduler.Policy.ROUND_ROBIN;
+                case "sjf" -> BoundedScheduler.Policy.SJF;
+                default -> throw new IllegalArgumentException("--results needs --scheduler rr or sjf");
+            };
+        }
+    }
+
+    private void run() throws IOException {
+        List<Path> files = listInputs();
+        OutputStream sink = output == null ? System.out : Files.newOutputStream(output);
+        PrintStream out = new PrintStream(new BufferedOutputStream(sink), false, StandardCharsets.UTF_8);
+        try {
+            if (results != null) {
+                runBounded(files, out);
+                return;
+            }
+            begin(out);
+            if (files.size() == 1) {
+                emit(out, 0, new Comparison(load(files.get(0)), policies).run(parallelism));
+            } else {
+                runAll(files, out);
+            }
+            end(out);
+        } finally {
+            out.flush();
+            if (output != null) {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Streams one file through a {@link BoundedScheduler}, so memory follows the
+     * number of live processes. The per-process results go to the
+     * {@code --results} file in completion order; only the summary is output.
+     */
+    private void runBounded(List<Path> files, PrintStream out) throws IOException {
+        if (files.size() != 1 || Files.isDirectory(input)) {
+            throw new IllegalArgumentException("--results needs a single input file");
+        }
+        Path file = files.get(0);
+        BoundedScheduler.Summary summary;
+        String name;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             ProcessStream stream = new ProcessStream(file.getFileName().toString(), reader);
+             ResultSink sink = new CsvResultSink(Files.newBufferedWriter(results, StandardCharsets.UTF_8))) {
+            name = stream.getName();
+            summary = new BoundedScheduler(stream, boundedPolicy, stream.getRrQuantum(), stream.getContextSwitch())
+                    .simulate(sink);
+        }
+
+        String policy = policies.get(0);
+        switch (format) {
+            case "json" -> {
+                JsonObject tree = new Gson().toJsonTree(summary).getAsJsonObject();
+                tree.addProperty("workload", name);
+                tree.addProperty("policy", policy);
+                out.println(new GsonBuilder().setPrettyPrinting().create().toJson(tree));
+            }
+            case "csv" -> {
+                out.println("workload,policy,processes,averageWaitingTime,averageTurnaroundTime,makespan,peakLiveProcesses");
+                out.printf(Locale.ROOT, "%s,%s,%d,%.2f,%.2f,%d,%d%n",
+                        Comparison.csvField(name), Comparison.csvField(policy), summary.getProcesses(),
+                        summary.getAverageWaitingTime(), summary.getAverageTurnaroundTime(),
+                        summary.getMakespan(), summary.getPeakLiveProcesses());
+            }
+            default -> {
+                out.println("\n" + name);
+                summary.print(out);
+            }
+        }
+    }
+
+    private List<Path> listInputs() throws IOException {
+        if (!Files.isDirectory(input)) {
+            if (!Files.isRegularFile(input)) {
+                throw new FileNotFoundException(input.toString());
+            }
+            return List.of(input);
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(input, "*.json")) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        if (files.isEmpty()) {
+            throw new FileNotFoundException("No .json files in " + input);
+        }
+        return files;
+    }
+
+    /**
+     * Runs one file per worker. Results are written in file order. When
+     * streaming, at most {@code parallelism} files are read ahead of the output.
+     */
+    private void runAll(List<Path> files, PrintStream out) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Workload> loaded = new ArrayList<>();
+            if (!streaming) {
+                for (Path file : files) {
+                    loaded.add(load(file));
+                }
+            }
+
+            ArrayDeque<Future<Comparison>> pending = new ArrayDeque<>();
+            int emitted = 0;
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                Workload preloaded = streaming ? null : loaded.get(i);
+                pending.add(pool.submit(() ->
+                        new Comparison(preloaded != null ? preloaded : load(file), policies).run(1)));
+                if (pending.size() >= parallelism) {
+                    emit(out, emitted++, await(pending.poll()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                emit(out, emitted++, await(pending.poll()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Comparison await(Future<Comparison> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a result");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private Workload load(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        if (streaming) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return Workload.read(name, reader);
+            }
+        }
+        JsonObject testCase = JsonParser.parseString(Files.readString(file)).getAsJsonObject();
+        return Workload.parse(name, testCase);
+    }
+
+    private void begin(PrintStream out) {
+        switch (format) {
+            case "json" -> out.println("[");
+            case "csv" -> out.println(Comparison.CSV_HEADER);
+            default -> { }
+        }
+    }
+
+    private void emit(PrintStream out, int index, Comparison comparison) {
+        switch (format) {
+            case "json" -> {
+                if (index > 0) {
+                    out.println(",");
+                }
+                out.print(new GsonBuilder().setPrettyPrinting().create().toJson(comparison.toJsonTree()));
+            }
+            case "csv" -> out.print(comparison.csvRows());
+            default -> {
+                if (policies.size() == 1) {
+                    String policy = policies.get(0);
+                    out.println("\n" + comparison.getWorkload().getName());
+                    if (comparison.getResults().containsKey(policy)) {
+                        comparison.getResults().get(policy).print(out);
+                    } else {
+                        out.println(policy + " skipped: " + comparison.getSkipped().get(policy));
+                    }
+                } else {
+                    comparison.printTable(out);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private void end(PrintStream out) {
+        if (format.equals("json")) {
+            out.println("\n]");
+        }
+    }
+}
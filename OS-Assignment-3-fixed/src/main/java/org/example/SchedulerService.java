@@ -0,0 +1,203 @@
+package org.example;
+
+import com.google.gson.*;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Schedules workloads over HTTP on localhost, so callers share one warm JVM.
+ *
+ * {@code POST /schedule?scheduler=rr&engine=fast} takes a workload in the
+ * {@code test_cases} layout and answers with the {@link ScheduleResult} as JSON.
+ * The parameters and their defaults are the same as on the command line, except
+ * that {@code scheduler=all} is not accepted. {@code GET /health} answers "ok".
+ *
+ * Each exchange is handled on its own virtual thread, which parses the body and
+ * then waits for the result. The simulations themselves run on a fixed pool of
+ * platform threads. A single dispatcher thread hands queued requests to the
+ * workers. While some worker is idle, each request goes to a worker of its own.
+ * Only when every worker is busy does the next free one get a batch: its even
+ * share of the queue, up to {@link #BATCH_PROCESSES} processes in total. Small
+ * requests then share a task hand-off without taking parallelism away, and a
+ * large one runs alone. Nothing waits for a batch to fill.
+ */
+public class SchedulerService {
+    public static final int BATCH_PROCESSES = 4096;
+    private static final int MAX_BATCH = 64;
+
+    private final Gson gson = new Gson();
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ExecutorService workers;
+    private final int workerThreads;
+    private final Semaphore idleWorkers;
+    private final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+    private final Thread dispatcher;
+
+    private static final class Job {
+        private final Workload workload;
+        private final String policy;
+        private final CompletableFuture<ScheduleResult> result = new CompletableFuture<>();
+
+        Job(Workload workload, String policy) {
+            this.workload = workload;
+            this.policy = policy;
+        }
+
+        void run() {
+            try {
+                result.complete(Comparison.simulate(policy, workload));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /** Binds to the loopback address; port 0 picks a free port. */
+    public SchedulerService(int port, int workerThreads) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.handlers = Executors.newVirtualThreadPerTaskExecutor();
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+        this.workerThreads = workerThreads;
+        this.idleWorkers = new Semaphore(workerThreads);
+        this.dispatcher = new Thread(this::dispatch, "scheduler-dispatcher");
+        this.dispatcher.setDaemon(true);
+
+        server.setExecutor(handlers);
+        server.createContext("/schedule", this::handleSchedule);
+        server.createContext("/health", exchange -> respond(exchange, 200, "text/plain", "ok"));
+    }
+
+    public void start() {
+        dispatcher.start();
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        dispatcher.interrupt();
+        workers.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void dispatch() {
+        List<Job> batch = new ArrayList<>();
+        try {
+            while (true) {
+                idleWorkers.acquire();
+                Job first = queue.take();
+                batch.add(first);
+                int processes = first.workload.size();
+                // With other workers idle the rest of the queue is theirs.
+                // Otherwise this worker takes its share of the backlog.
+                int limit = idleWorkers.availablePermits() > 0
+                        ? 1
+                        : Math.min(MAX_BATCH, 1 + queue.size() / workerThreads);
+                while (batch.size() < limit && processes < BATCH_PROCESSES) {
+                    Job next = queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    processes += next.workload.size();
+                }
+
+                List<Job> jobs = List.copyOf(batch);
+                batch.clear();
+                workers.execute(() -> {
+                    try {
+                        for (Job job : jobs) {
+                            job.run();
+                        }
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            }
+        } catch (InterruptedException | RejectedExecutionException e) {
+            // stop() was called.
+        }
+    }
+
+    private void handleSchedule(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().add("Allow", "POST");
+                respondError(exchange, 405, "Use POST");
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String scheduler = query.getOrDefault("scheduler", "rr").toLowerCase(Locale.ROOT);
+            String engine = query.getOrDefault("engine", "reference").toLowerCase(Locale.ROOT);
+            if (scheduler.equals("all")) {
+                throw new IllegalArgumentException("Pick one scheduler; use the command line to compare them all");
+            }
+            String policy = Comparison.policiesOf(scheduler, engine).get(0);
+
+            Workload workload;
+            try (Reader body = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+                workload = Workload.read("request", body);
+            } catch (IOException | IllegalStateException | NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed workload: " + e.getMessage(), e);
+            }
+            if (workload.size() == 0) {
+                throw new IllegalArgumentException("The workload has no processes");
+            }
+
+            Job job = new Job(workload, policy);
+            queue.add(job);
+            respond(exchange, 200, "application/json", gson.toJson(job.result.get()));
+        } catch (IllegalArgumentException e) {
+            respondError(exchange, 400, e.getMessage());
+        } catch (ExecutionException e) {
+            int status = e.getCause() instanceof IllegalArgumentException ? 400 : 500;
+            respondError(exchange, status, String.valueOf(e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respondError(exchange, 503, "Shutting down");
+        } catch (RuntimeException e) {
+            respondError(exchange, 500, String.valueOf(e.getMessage()));
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private void respondError(HttpExchange exchange, int status, String message) throws IOException {
+        JsonObject error = new JsonObject();
+        error.addProperty("error", message);
+        respond(exchange, status, "application/json", gson.toJson(error));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
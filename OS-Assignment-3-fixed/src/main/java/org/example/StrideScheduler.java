@@ -0,0 +1,118 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Stride scheduling: deterministic proportional share.
+ *
+ * Each process holds {@code priorityTime} tickets (at least 1) and has a stride
+ * of STRIDE1 / tickets. The ready process with the lowest pass value runs for
+ * one quantum, then its pass advances by its stride, scaled down if it used only
+ * part of the quantum. Over time a process gets CPU in proportion to its tickets.
+ * Ready processes sit in a pass-ordered heap. Ties go to the earlier arrival,
+ * then to load order. Processes with I/O bursts are rejected.
+ */
+public class StrideScheduler {
+    private static final long STRIDE1 = 1L << 20;
+
+    private final List<Process> processes;
+    private final int quantum;
+    private final SwitchCostModel switchCost;
+    private final ProcessTable table;
+    private final IntList executionOrder = new IntList();
+
+    public StrideScheduler(List<Process> processes, int quantum, int contextSwitch) {
+        this(processes, quantum, SwitchCostModel.flat(contextSwitch));
+    }
+
+    public StrideScheduler(List<Process> processes, int quantum, SwitchCostModel switchCost) {
+        this.processes = processes;
+        this.quantum = quantum;
+        this.switchCost = switchCost;
+        this.table = new ProcessTable(processes);
+    }
+
+    public List<Process> getProcesses() {
+        return processes;
+    }
+
+    public void run() {
+        simulate().print();
+    }
+
+    public ScheduleResult simulate() {
+        int n = table.size();
+        switchCost.reset(n);
+        int[] arrival = new int[n];
+        int[] remaining = new int[n];
+        long[] stride = new long[n];
+        long[] pass = new long[n];
+        for (int id = 0; id < n; id++) {
+            Process p = table.get(id);
+            if (p.hasIo()) {
+                throw new IllegalArgumentException("StrideScheduler does not model I/O bursts: " + p.getName());
+            }
+            arrival[id] = p.getArrivalTime();
+            remaining[id] = p.getBurstTime();
+            stride[id] = STRIDE1 / Math.max(1, p.getPriorityTime());
+        }
+
+        ArrivalIndex arrivals = new ArrivalIndex(table);
+        int[] byArrival = arrivals.order();
+
+        IntHeap readyQueue = new IntHeap(n, (a, b) -> {
+            int c = Long.compare(pass[a], pass[b]);
+            if (c != 0) return c;
+            c = Integer.compare(arrival[a], arrival[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        });
+
+        executionOrder.clear();
+        long globalPass = 0;
+        int currentTime = 0;
+        int completed = 0;
+        int lastProcess = -1;
+
+        while (completed < n) {
+            int from = arrivals.position();
+            int to = arrivals.release(currentTime);
+            for (int i = from; i < to; i++) {
+                pass[byArrival[i]] = globalPass + stride[byArrival[i]];
+            }
+            readyQueue.pushAll(byArrival, from, to);
+
+            if (readyQueue.isEmpty()) {
+                currentTime = arrivals.nextArrival();
+                continue;
+            }
+
+            int current = readyQueue.pop();
+            if (lastProcess != -1 && lastProcess != current) {
+                currentTime += switchCost.switchCost(lastProcess, current, currentTime);
+            }
+            executionOrder.add(current);
+
+            int slice = quantum > 0 ? Math.min(quantum, remaining[current]) : remaining[current];
+            remaining[current] -= slice;
+            currentTime += slice;
+
+            globalPass = pass[current];
+            pass[current] += quantum > 0 ? stride[current] * slice / quantum : stride[current];
+            lastProcess = current;
+
+            if (remaining[current] == 0) {
+                completed++;
+                Process p = table.get(current);
+                p.setRemainingTime(0);
+                p.setCompletionTime(currentTime);
+                p.setTurnaroundTime(currentTime - p.getArrivalTime());
+                p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
+            } else {
+                readyQueue.push(current);
+            }
+        }
+
+        processes.sort(Comparator.comparing(Process::getName));
+        return ScheduleResult.of("Stride Scheduling", table, executionOrder, processes);
+    }
+}
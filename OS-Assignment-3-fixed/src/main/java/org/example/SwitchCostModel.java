@@ -0,0 +1,43 @@
+package org.example;
+
+/**
+ * How long a context switch takes.
+ *
+ * Every scheduler asks the model for the cost of each switch it makes, passing
+ * the process ids (as assigned by {@link ProcessTable}) and the current time.
+ * A model may keep per-process history, so schedulers call {@link #reset}
+ * before a run and checkpoint it with {@link #copy}.
+ */
+public interface SwitchCostModel {
+    /** Forgets all history before a run over {@code processCount} processes. */
+    void reset(int processCount);
+
+    /**
+     * Time charged for switching from {@code from} (-1 if nothing ran before)
+     * to {@code to} at time {@code now}.
+     */
+    int switchCost(int from, int to, long now);
+
+    /**
+     * Records a switch that the scheduler does not charge for, as AG's
+     * mid-quantum swaps are not. The model still sees {@code from} leave the
+     * CPU and {@code to} take it, so later costs are based on where and when
+     * each process last ran.
+     */
+    default void recordSwitch(int from, int to, long now) {
+        switchCost(from, to, now);
+    }
+
+    /** An independent copy with the same history. */
+    SwitchCostModel copy();
+
+    /** The cost of every switch when it never depends on history, otherwise -1. */
+    default int fixedCost() {
+        return -1;
+    }
+
+    /** The classic model: every switch costs the same. */
+    static SwitchCostModel flat(int cost) {
+        return new FlatSwitchCost(cost);
+    }
+}
@@ -7,10 +7,20 @@ import java.util.*;
 
 public class TestRunner {
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final long CACHE_MAX_BYTES = 64L * 1024 * 1024;
+    private static ResultCache cache;
     
-    public static void main(String[] args) {
-        String agPath = "test_cases\\AG";
-        String otherPath = "test_cases\\Other_Schedulers";
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 2 && args[0].equals("--compare")) {
+            runComparison(Paths.get(args[1]), args.length > 2 ? Paths.get(args[2]) : null);
+            return;
+        }
+        
+        cache = new ResultCache(Paths.get(".scheduler-cache"), CACHE_MAX_BYTES);
+        
+        String agPath = Paths.get("test_cases", "AG").toString();
+        String otherPath = Paths.get("test_cases", "Other_Schedulers").toString();
+        String edfPath = Paths.get("test_cases", "EDF").toString();
         
         System.out.println("AG SCHEDULER TESTS");
         System.out.println("==================\n");
@@ -21,6 +31,13 @@ public class TestRunner {
         System.out.println("======================\n");
         
         runOtherSchedulersTests(otherPath);
+        
+        System.out.println("\nEDF SCHEDULER TESTS");
+        System.out.println("===================\n");
+        
+        runEDFTests(edfPath);
+        
+        System.out.println("\nResult cache: " + cache.getHits() + " hits, " + cache.getMisses() + " misses");
     }
     
     private static void runAGTests(String folderPath) {
@@ -41,23 +58,11 @@ public class TestRunner {
                 String content = new String(Files.readAllBytes(file.toPath()));
                 JsonObject testCase = gson.fromJson(content, JsonObject.class);
                 
-                JsonArray processesJson = testCase.getAsJsonObject("input").getAsJsonArray("processes");
-                List<Process> processes = new ArrayList<>();
-                
-                for (JsonElement elem : processesJson) {
-                    JsonObject p = elem.getAsJsonObject();
-                    Process proc = new Process(
-                        p.get("arrival").getAsInt(),
-                        p.get("burst").getAsInt(),
-                        p.get("priority").getAsInt(),
-                        p.get("name").getAsString()
-                    );
-                    proc.setQuantum(p.get("quantum").getAsInt());
-                    processes.add(proc);
-                }
+                Workload workload = Workload.parse(file.getName(), testCase);
+                List<Process> processes = workload.processes();
                 
-                AGScheduler scheduler = new AGScheduler(processes, 0);
-                scheduler.run();
+                String key = ResultCache.key("AG", processes, workload.switchCostModel(), 0, 0);
+                cache.getOrCompute(key, () -> new AGScheduler(processes, workload.switchCostModel()).simulate()).print();
                 
                 System.out.println("\nExpected Output:");
                 JsonObject expected = testCase.getAsJsonObject("expectedOutput");
@@ -89,24 +94,41 @@ public class TestRunner {
                 String content = new String(Files.readAllBytes(file.toPath()));
                 JsonObject testCase = gson.fromJson(content, JsonObject.class);
                 
-                JsonObject input = testCase.getAsJsonObject("input");
-                int contextSwitch = input.get("contextSwitch").getAsInt();
-                int rrQuantum = input.get("rrQuantum").getAsInt();
-                int agingInterval = input.get("agingInterval").getAsInt();
-                
-                JsonArray processesJson = input.getAsJsonArray("processes");
+                Workload workload = Workload.parse(file.getName(), testCase);
+                SwitchCostModel switchCost = workload.switchCostModel();
+                int rrQuantum = workload.getRrQuantum();
+                int agingInterval = workload.getAgingInterval();
                 
                 System.out.println("\nSJF:");
-                List<Process> sjfProcesses = parseProcesses(processesJson);
-                new PreemptiveSJF(sjfProcesses, contextSwitch).run();
+                List<Process> sjfProcesses = workload.processes();
+                String sjfKey = ResultCache.key("SJF", sjfProcesses, switchCost, 0, 0);
+                cache.getOrCompute(sjfKey, () -> new PreemptiveSJF(sjfProcesses, workload.switchCostModel()).simulate()).print();
+                
+                System.out.println("\nPredictive SJF:");
+                new PredictiveSJF(workload.processes(), workload.switchCostModel(), Comparison.PREDICTION_ALPHA, Comparison.INITIAL_ESTIMATE).run();
                 
                 System.out.println("\nRound Robin:");
-                List<Process> rrProcesses = parseProcesses(processesJson);
-                new RoundRobin(rrProcesses, rrQuantum, contextSwitch).run();
+                List<Process> rrProcesses = workload.processes();
+                String rrKey = ResultCache.key("RR", rrProcesses, switchCost, rrQuantum, 0);
+                cache.getOrCompute(rrKey, () -> new RoundRobin(rrProcesses, rrQuantum, workload.switchCostModel()).simulate()).print();
                 
                 System.out.println("\nPriority:");
-                List<Process> priorityProcesses = parseProcesses(processesJson);
-                new PriorityScheduler(priorityProcesses, contextSwitch, agingInterval).run();
+                List<Process> priorityProcesses = workload.processes();
+                String priorityKey = ResultCache.key("Priority", priorityProcesses, switchCost, 0, agingInterval);
+                cache.getOrCompute(priorityKey,
+                        () -> new PriorityScheduler(priorityProcesses, workload.switchCostModel(), agingInterval).simulate()).print();
+                
+                System.out.println("\nStride:");
+                List<Process> strideProcesses = workload.processes();
+                String strideKey = ResultCache.key("Stride", strideProcesses, switchCost, rrQuantum, 0);
+                cache.getOrCompute(strideKey,
+                        () -> new StrideScheduler(strideProcesses, rrQuantum, workload.switchCostModel()).simulate()).print();
+                
+                System.out.println("\nLottery:");
+                List<Process> lotteryProcesses = workload.processes();
+                String lotteryKey = ResultCache.key("Lottery:" + Comparison.LOTTERY_SEED, lotteryProcesses, switchCost, rrQuantum, 0);
+                cache.getOrCompute(lotteryKey,
+                        () -> new LotteryScheduler(lotteryProcesses, rrQuantum, workload.switchCostModel(), Comparison.LOTTERY_SEED).simulate()).print();
                 
             } catch (Exception e) {
                 System.err.println("Error running test " + file.getName() + ": " + e.getMessage());
@@ -114,18 +136,53 @@ public class TestRunner {
         }
     }
     
-    private static List<Process> parseProcesses(JsonArray processesJson) {
-        List<Process> processes = new ArrayList<>();
-        for (JsonElement elem : processesJson) {
-            JsonObject p = elem.getAsJsonObject();
-            Process proc = new Process(
-                p.get("arrival").getAsInt(),
-                p.get("burst").getAsInt(),
-                p.get("priority").getAsInt(),
-                p.get("name").getAsString()
-            );
-            processes.add(proc);
+    private static void runEDFTests(String folderPath) {
+        File folder = new File(folderPath);
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".json"));
+        
+        if (files == null || files.length == 0) {
+            System.out.println("No EDF test files found!");
+            return;
+        }
+        
+        Arrays.sort(files);
+        
+        for (File file : files) {
+            try {
+                System.out.println("\n" + file.getName());
+                
+                String content = new String(Files.readAllBytes(file.toPath()));
+                JsonObject testCase = gson.fromJson(content, JsonObject.class);
+                
+                Workload workload = Workload.parse(file.getName(), testCase);
+                new EDFScheduler(workload.processes(), workload.switchCostModel(), workload.getHorizon()).run();
+                
+                System.out.println("\nExpected Output:");
+                JsonObject expected = testCase.getAsJsonObject("expectedOutput");
+                System.out.println("Admission: " + expected.get("admission").getAsString());
+                System.out.println("Deadline Misses: " + expected.get("deadlineMisses").getAsInt());
+                
+            } catch (Exception e) {
+                System.err.println("Error running test " + file.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Runs every policy on one workload file and prints them side by side.
+     * The summary is also written to {@code summary} when given, as CSV if the
+     * name ends in .csv and as JSON otherwise.
+     */
+    private static void runComparison(Path workloadFile, Path summary) throws IOException {
+        JsonObject testCase = gson.fromJson(Files.readString(workloadFile), JsonObject.class);
+        Workload workload = Workload.parse(workloadFile.getFileName().toString(), testCase);
+        Comparison comparison = new Comparison(workload).run(Runtime.getRuntime().availableProcessors());
+        comparison.printTable();
+        
+        if (summary != null) {
+            String text = summary.toString().endsWith(".csv") ? comparison.toCsv() : comparison.toJson();
+            Files.writeString(summary, text);
+            System.out.println("\nSummary written to " + summary);
         }
-        return processes;
     }
 }
@@ -0,0 +1,314 @@
+package org.example;
+
+import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+/**
+ * A parsed workload that never changes once built.
+ *
+ * The input settings and the process definitions are held in primitive arrays,
+ * so one instance can be shared by any number of threads. Each scheduler run
+ * takes its own mutable copy from {@link #processes()}.
+ */
+public final class Workload {
+    private final String name;
+    private final int contextSwitch;
+    private final int rrQuantum;
+    private final int agingInterval;
+    private final int horizon;
+    private final SwitchCostModel switchCost;
+    private final String[] names;
+    private final int[] arrival;
+    private final int[] burst;
+    private final int[] priority;
+    private final int[] quantum;
+    private final int[] deadline;
+    private final int[] period;
+    private final int[][] bursts;
+
+    public Workload(String name, int contextSwitch, int rrQuantum, int agingInterval, int horizon,
+                    List<Process> processes) {
+        this(name, contextSwitch, SwitchCostModel.flat(contextSwitch), rrQuantum, agingInterval, horizon, processes);
+    }
+
+    public Workload(String name, int contextSwitch, SwitchCostModel switchCost, int rrQuantum, int agingInterval,
+                    int horizon, List<Process> processes) {
+        int n = processes.size();
+        this.name = name;
+        this.contextSwitch = contextSwitch;
+        this.switchCost = switchCost.copy();
+        this.rrQuantum = rrQuantum;
+        this.agingInterval = agingInterval;
+        this.horizon = horizon;
+        this.names = new String[n];
+        this.arrival = new int[n];
+        this.burst = new int[n];
+        this.priority = new int[n];
+        this.quantum = new int[n];
+        this.deadline = new int[n];
+        this.period = new int[n];
+        this.bursts = new int[n][];
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            names[i] = p.getName();
+            arrival[i] = p.getArrivalTime();
+            burst[i] = p.getBurstTime();
+            priority[i] = p.getPriorityTime();
+            quantum[i] = p.getQuantum();
+            deadline[i] = p.getDeadline();
+            period[i] = p.getPeriod();
+            bursts[i] = p.hasIo() ? p.getBursts() : null;
+        }
+    }
+
+    /**
+     * Parses a test case in the {@code test_cases} layout: an {@code input}
+     * object with the settings and a {@code processes} array. Missing settings
+     * default to 0.
+     *
+     * An optional {@code switchCost} object replaces the flat context switch
+     * with a {@link CacheAffinitySwitchCost}: {@code refill}, {@code decay},
+     * {@code migration} and {@code cores}, with {@code contextSwitch} as the
+     * base cost.
+     */
+    public static Workload parse(String name, JsonObject testCase) {
+        JsonObject input = testCase.getAsJsonObject("input");
+        if (testCase.has("name")) {
+            name = testCase.get("name").getAsString();
+        }
+        int contextSwitch = intOrZero(input, "contextSwitch");
+        SwitchCostModel switchCost = SwitchCostModel.flat(contextSwitch);
+        if (input.has("switchCost")) {
+            JsonObject model = input.getAsJsonObject("switchCost");
+            switchCost = new CacheAffinitySwitchCost(contextSwitch,
+                    intOrZero(model, "refill"),
+                    model.has("decay") ? model.get("decay").getAsDouble() : 1,
+                    intOrZero(model, "migration"),
+                    model.has("cores") ? model.get("cores").getAsInt() : 1);
+        }
+        return new Workload(name,
+                contextSwitch,
+                switchCost,
+                intOrZero(input, "rrQuantum"),
+                intOrZero(input, "agingInterval"),
+                intOrZero(input, "horizon"),
+                parseProcesses(input.getAsJsonArray("processes")));
+    }
+
+    /**
+     * Parses the process definitions. Each one is checked as in {@link #validated}
+     * and a bad one throws IllegalArgumentException.
+     */
+    public static List<Process> parseProcesses(JsonArray processesJson) {
+        List<Process> processes = new ArrayList<>();
+        for (JsonElement elem : processesJson) {
+            JsonObject p = elem.getAsJsonObject();
+            if (!p.has("name")) {
+                throw new IllegalArgumentException("Process without a name: " + p);
+            }
+            Process proc = new Process(
+                p.get("arrival").getAsInt(),
+                p.has("burst") ? p.get("burst").getAsInt() : 0,
+                p.get("priority").getAsInt(),
+                p.get("name").getAsString()
+            );
+            if (p.has("quantum")) {
+                proc.setQuantum(p.get("quantum").getAsInt());
+            }
+            if (p.has("deadline")) {
+                proc.setDeadline(p.get("deadline").getAsInt());
+            }
+            if (p.has("period")) {
+                proc.setPeriod(p.get("period").getAsInt());
+            }
+            if (p.has("bursts")) {
+                JsonArray lengths = p.getAsJsonArray("bursts");
+                int[] values = new int[lengths.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = lengths.get(i).getAsInt();
+                }
+                proc.setBursts(values);
+            }
+            processes.add(validated(proc));
+        }
+        return processes;
+    }
+
+    /**
+     * Reads the same layout as {@link #parse} token by token, so a large file is
+     * never held as a JSON tree. Fields other than {@code name} and
+     * {@code input}, such as {@code expectedOutput}, are skipped.
+     */
+    public static Workload read(String name, Reader in) throws IOException {
+        int contextSwitch = 0;
+        int rrQuantum = 0;
+        int agingInterval = 0;
+        int horizon = 0;
+        int refill = 0;
+        double decay = 1;
+        int migration = 0;
+        int cores = 1;
+        boolean affinity = false;
+        List<Process> processes = new ArrayList<>();
+
+        JsonReader reader = new JsonReader(in);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (field.equals("name")) {
+                name = reader.nextString();
+            } else if (field.equals("input")) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "contextSwitch" -> contextSwitch = reader.nextInt();
+                        case "rrQuantum" -> rrQuantum = reader.nextInt();
+                        case "agingInterval" -> agingInterval = reader.nextInt();
+                        case "horizon" -> horizon = reader.nextInt();
+                        case "switchCost" -> {
+                            affinity = true;
+                            reader.beginObject();
+                            while (reader.hasNext()) {
+                                switch (reader.nextName()) {
+                                    case "refill" -> refill = reader.nextInt();
+                                    case "decay" -> decay = reader.nextDouble();
+                                    case "migration" -> migration = reader.nextInt();
+                                    case "cores" -> cores = reader.nextInt();
+                                    default -> reader.skipValue();
+                                }
+                            }
+                            reader.endObject();
+                        }
+                        case "processes" -> {
+                            reader.beginArray();
+                            while (reader.hasNext()) {
+                                processes.add(readProcess(reader));
+                            }
+                            reader.endArray();
+                        }
+                        default -> reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        SwitchCostModel switchCost = affinity
+                ? new CacheAffinitySwitchCost(contextSwitch, refill, decay, migration, cores)
+                : SwitchCostModel.flat(contextSwitch);
+        return new Workload(name, contextSwitch, switchCost, rrQuantum, agingInterval, horizon, processes);
+    }
+
+    static Process readProcess(JsonReader reader) throws IOException {
+        String name = null;
+        int arrival = 0;
+        int burst = 0;
+        int priority = 0;
+        int quantum = 0;
+        int deadline = 0;
+        int period = 0;
+        int[] bursts = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "arrival" -> arrival = reader.nextInt();
+                case "burst" -> burst = reader.nextInt();
+                case "priority" -> priority = reader.nextInt();
+                case "quantum" -> quantum = reader.nextInt();
+                case "deadline" -> deadline = reader.nextInt();
+                case "period" -> period = reader.nextInt();
+                case "bursts" -> {
+                    IntList lengths = new IntList();
+                    reader.beginArray();
+                    while (reader.peek() != JsonToken.END_ARRAY) {
+                        lengths.add(reader.nextInt());
+                    }
+                    reader.endArray();
+                    bursts = lengths.toArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (name == null) {
+            throw new IllegalArgumentException("Process without a name at " + reader.getPath());
+        }
+        Process p = new Process(arrival, burst, priority, name);
+        p.setQuantum(quantum);
+        p.setDeadline(deadline);
+        p.setPeriod(period);
+        if (bursts != null) {
+            p.setBursts(bursts);
+        }
+        return validated(p);
+    }
+
+    /**
+     * Rejects a process no scheduler can run to completion: it needs a
+     * non-empty name, an arrival of at least 0, and a burst of at least 1
+     * unless it gives {@code bursts} (which {@link Process#setBursts} checks).
+     */
+    static Process validated(Process p) {
+        if (p.getName().isEmpty()) {
+            throw new IllegalArgumentException("Process with an empty name");
+        }
+        if (p.getArrivalTime() < 0) {
+            throw new IllegalArgumentException("Arrival must be >= 0: " + p.getName() + " arrives at " + p.getArrivalTime());
+        }
+        if (!p.hasIo() && p.getBurstTime() <= 0) {
+            throw new IllegalArgumentException("Burst must be > 0: " + p.getName() + " has " + p.getBurstTime());
+        }
+        return p;
+    }
+
+    private static int intOrZero(JsonObject object, String key) {
+        return object.has(key) ? object.get(key).getAsInt() : 0;
+    }
+
+    /** A fresh, mutable copy of the processes in input order. */
+    public List<Process> processes() {
+        List<Process> processes = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            Process p = new Process(arrival[i], burst[i], priority[i], names[i]);
+            p.setQuantum(quantum[i]);
+            p.setDeadline(deadline[i]);
+            p.setPeriod(period[i]);
+            if (bursts[i] != null) {
+                p.setBursts(bursts[i]);
+            }
+            processes.add(p);
+        }
+        return processes;
+    }
+
+    /** A fresh switch-cost model for one run; models keep per-run history. */
+    public SwitchCostModel switchCostModel() {
+        return switchCost.copy();
+    }
+
+    public String getName() { return name; }
+    public int getContextSwitch() { return contextSwitch; }
+    public int getRrQuantum() { return rrQuantum; }
+    public int getAgingInterval() { return agingInterval; }
+    public int getHorizon() { return horizon; }
+    public int size() { return names.length; }
+
+    /** Whether any process has I/O bursts. */
+    public boolean hasIo() {
+        for (int[] b : bursts) {
+            if (b != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Times the sequential and the fork-join {@link AGReadyScan} over ready queues
+ * of growing length and reports the length from which the fork-join scan wins
+ * at every larger size too. That length is what {@link AGReadyScan#DEFAULT_PARALLEL_THRESHOLD}
+ * should be set near on the target machine.
+ *
+ * Usage: AGScanBenchmark [maxQueueLength]
+ */
+public class AGScanBenchmark {
+    private static final int REPETITIONS = 41;
+
+    public static void main(String[] args) {
+        int max = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 22;
+        System.out.println("Processors: " + Runtime.getRuntime().availableProcessors()
+                + ", fork-join parallelism: " + java.util.concurrent.ForkJoinPool.commonPool().getParallelism());
+        System.out.printf("%12s %14s %14s %8s\n", "Queue", "Sequential us", "Fork-join us", "Speedup");
+
+        int crossover = -1;
+        for (int size = 1 << 10; size <= max; size <<= 1) {
+            Random random = new Random(size);
+            List<Process> processes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                processes.add(new Process(0, 1 + random.nextInt(1000), random.nextInt(1000), "P" + i));
+            }
+            ProcessTable table = new ProcessTable(processes);
+            IntRingBuffer queue = new IntRingBuffer(size);
+            for (int id = 0; id < size; id++) {
+                queue.offer(id);
+            }
+
+            double sequential = medianMicros(queue, table, false);
+            double parallel = medianMicros(queue, table, true);
+            System.out.printf("%12d %14.1f %14.1f %7.2fx\n", size, sequential, parallel, sequential / parallel);
+            if (parallel >= sequential) {
+                crossover = -1;
+            } else if (crossover < 0) {
+                crossover = size;
+            }
+        }
+
+        if (crossover < 0) {
+            System.out.println("The fork-join scan never won up to " + max + " entries");
+        } else {
+            System.out.println("Fork-join wins from about " + crossover + " entries (default threshold "
+                    + AGReadyScan.DEFAULT_PARALLEL_THRESHOLD + ")");
+        }
+    }
+
+    private static double medianMicros(IntRingBuffer queue, ProcessTable table, boolean parallel) {
+        long checksum = 0;
+        for (int i = 0; i < 50; i++) {
+            checksum += scan(queue, table, parallel).getBestPriority();
+        }
+        long[] times = new long[REPETITIONS];
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            AGReadyScan scan = scan(queue, table, parallel);
+            times[i] = System.nanoTime() - start;
+            checksum += scan.getBestPriority() + scan.getShortestJob();
+        }
+        if (checksum == 42) {
+            System.out.print("");
+        }
+        Arrays.sort(times);
+        return times[REPETITIONS / 2] / 1e3;
+    }
+
+    private static AGReadyScan scan(IntRingBuffer queue, ProcessTable table, boolean parallel) {
+        return parallel
+                ? AGReadyScan.parallel(queue, table, AGReadyScan.LEAF_SIZE)
+                : AGReadyScan.sequential(queue, table);
+    }
+}
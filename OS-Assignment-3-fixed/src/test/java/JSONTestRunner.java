@@ -2,6 +2,8 @@ package org.example;
 
 import com.google.gson.*;
 import java.io.*;
+import java.net.URI;
+import java.net.http.*;
 import java.nio.file.*;
 import java.util.*;
 
@@ -15,6 +17,20 @@ public class JSONTestRunner {
         System.out.println("Running tests...");
         runAGTests();
         runOtherSchedulersTests();
+        runFastRoundRobinLargeBurstTest();
+        runEDFTests();
+        runIOTests();
+        runResultCacheTest();
+        runWhatIfTest();
+        runProportionalShareTest();
+        runPredictiveSJFTest();
+        runSwitchCostTest();
+        runAGScanTest();
+        runGangArrivalTest();
+        runBoundedTest();
+        runComparisonTest();
+        runCliTest();
+        runServiceTest();
         System.out.println("\nPassed: " + passedTests + ", Failed: " + failedTests);
         if (failedTests > 0) {
             System.exit(1);
@@ -112,10 +128,157 @@ public class JSONTestRunner {
 
                 testSJF(file.getName(), processesJson, contextSwitch, testCase.getAsJsonObject("expectedOutput"));
                 testRoundRobin(file.getName(), processesJson, contextSwitch, roundRobinQuantum, testCase.getAsJsonObject("expectedOutput"));
+                testFastRoundRobin(file.getName(), processesJson, contextSwitch, roundRobinQuantum, testCase.getAsJsonObject("expectedOutput"));
                 testPriority(file.getName(), processesJson, contextSwitch, agingInterval, testCase.getAsJsonObject("expectedOutput"));
 
             } catch (Exception e) {
-                failedTests += 3;
+                failedTests += 4;
+            }
+        }
+    }
+
+    private static void runEDFTests() {
+        File folder = new File("test_cases/EDF");
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".json"));
+
+        if (files == null || files.length == 0) {
+            failedTests++;
+            return;
+        }
+
+        Arrays.sort(files);
+
+        for (File file : files) {
+            try {
+                String content = new String(Files.readAllBytes(file.toPath()));
+                JsonObject testCase = gson.fromJson(content, JsonObject.class);
+
+                JsonObject input = testCase.getAsJsonObject("input");
+                List<Process> processes = parseProcesses(input.getAsJsonArray("processes"));
+                EDFScheduler.Admission admission = EDFScheduler.admit(processes);
+                EDFScheduler edf = new EDFScheduler(processes, input.get("contextSwitch").getAsInt(), input.get("horizon").getAsInt());
+                ScheduleResult result = edf.simulate();
+                EDFScheduler.DeadlineReport report = edf.getReport();
+
+                JsonObject expected = testCase.getAsJsonObject("expectedOutput");
+                List<String> failures = new ArrayList<>();
+                if (!expected.get("admission").getAsString().equals(admission.getVerdict().name())) {
+                    failures.add("Admission: Expected " + expected.get("admission").getAsString() + ", Got " + admission.getVerdict());
+                }
+                if (expected.get("deadlineMisses").getAsInt() != report.getDeadlineMisses()) {
+                    failures.add("Misses: Expected " + expected.get("deadlineMisses").getAsInt() + ", Got " + report.getDeadlineMisses());
+                }
+                if (expected.has("maxLateness") && expected.get("maxLateness").getAsLong() != report.getMaxLateness()) {
+                    failures.add("Max lateness: Expected " + expected.get("maxLateness").getAsLong() + ", Got " + report.getMaxLateness());
+                }
+                if (expected.has("executionOrder")) {
+                    List<String> expectedOrder = new ArrayList<>();
+                    for (JsonElement name : expected.getAsJsonArray("executionOrder")) {
+                        expectedOrder.add(name.getAsString());
+                    }
+                    if (!expectedOrder.equals(result.getExecutionOrder())) {
+                        failures.add("Order: Expected " + expectedOrder + ", Got " + result.getExecutionOrder());
+                    }
+                }
+                if (expected.has("averageWaitingTime")
+                        && Math.abs(expected.get("averageWaitingTime").getAsDouble() - result.getAverageWaitingTime()) > 0.1) {
+                    failures.add("WT: Expected " + expected.get("averageWaitingTime").getAsDouble() + ", Got " + result.getAverageWaitingTime());
+                }
+                if (expected.has("averageTurnaroundTime")
+                        && Math.abs(expected.get("averageTurnaroundTime").getAsDouble() - result.getAverageTurnaroundTime()) > 0.1) {
+                    failures.add("TAT: Expected " + expected.get("averageTurnaroundTime").getAsDouble() + ", Got " + result.getAverageTurnaroundTime());
+                }
+
+                if (failures.isEmpty()) {
+                    System.out.println("PASS: " + file.getName() + " [EDF]");
+                    passedTests++;
+                } else {
+                    System.out.println("FAIL: " + file.getName() + " [EDF]");
+                    for (String failure : failures) {
+                        System.out.println("  " + failure);
+                    }
+                    failedTests++;
+                }
+
+            } catch (Exception e) {
+                System.out.println("ERROR: " + file.getName());
+                failedTests++;
+            }
+        }
+    }
+
+    private static void runIOTests() {
+        File folder = new File("test_cases/IO");
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".json"));
+
+        if (files == null || files.length == 0) {
+            failedTests++;
+            return;
+        }
+
+        Arrays.sort(files);
+
+        for (File file : files) {
+            try {
+                String content = new String(Files.readAllBytes(file.toPath()));
+                JsonObject testCase = gson.fromJson(content, JsonObject.class);
+
+                JsonObject input = testCase.getAsJsonObject("input");
+                JsonArray processesJson = input.getAsJsonArray("processes");
+                int contextSwitch = input.get("contextSwitch").getAsInt();
+                int rrQuantum = input.get("rrQuantum").getAsInt();
+                int agingInterval = input.get("agingInterval").getAsInt();
+
+                for (Map.Entry<String, JsonElement> entry : testCase.getAsJsonObject("expectedOutput").entrySet()) {
+                    List<Process> processes = parseProcesses(processesJson);
+                    ScheduleResult result = switch (entry.getKey()) {
+                        case "RR" -> new RoundRobin(processes, rrQuantum, contextSwitch).simulate();
+                        case "SJF" -> new PreemptiveSJF(processes, contextSwitch).simulate();
+                        case "Priority" -> new PriorityScheduler(processes, contextSwitch, agingInterval).simulate();
+                        case "AG" -> new AGScheduler(processes, contextSwitch).simulate();
+                        default -> throw new IllegalArgumentException("Unknown scheduler " + entry.getKey());
+                    };
+
+                    JsonObject expected = entry.getValue().getAsJsonObject();
+                    List<String> expectedOrder = new ArrayList<>();
+                    for (JsonElement name : expected.getAsJsonArray("executionOrder")) {
+                        expectedOrder.add(name.getAsString());
+                    }
+
+                    List<String> failures = new ArrayList<>();
+                    if (!expectedOrder.equals(result.getExecutionOrder())) {
+                        failures.add("Order: Expected " + expectedOrder + ", Got " + result.getExecutionOrder());
+                    }
+                    if (Math.abs(expected.get("averageWaitingTime").getAsDouble() - result.getAverageWaitingTime()) > 0.1) {
+                        failures.add("WT: Expected " + expected.get("averageWaitingTime").getAsDouble() + ", Got " + result.getAverageWaitingTime());
+                    }
+                    if (Math.abs(expected.get("averageTurnaroundTime").getAsDouble() - result.getAverageTurnaroundTime()) > 0.1) {
+                        failures.add("TAT: Expected " + expected.get("averageTurnaroundTime").getAsDouble() + ", Got " + result.getAverageTurnaroundTime());
+                    }
+                    if (result.getCpuUtilization() == null
+                            || Math.abs(expected.get("cpuUtilization").getAsDouble() - result.getCpuUtilization()) > 0.01) {
+                        failures.add("Utilization: Expected " + expected.get("cpuUtilization").getAsDouble() + ", Got " + result.getCpuUtilization());
+                    }
+                    if (result.getIoOverlap() == null
+                            || Math.abs(expected.get("ioOverlap").getAsDouble() - result.getIoOverlap()) > 0.01) {
+                        failures.add("Overlap: Expected " + expected.get("ioOverlap").getAsDouble() + ", Got " + result.getIoOverlap());
+                    }
+
+                    if (failures.isEmpty()) {
+                        System.out.println("PASS: " + file.getName() + " [" + entry.getKey() + "]");
+                        passedTests++;
+                    } else {
+                        System.out.println("FAIL: " + file.getName() + " [" + entry.getKey() + "]");
+                        for (String failure : failures) {
+                            System.out.println("  " + failure);
+                        }
+                        failedTests++;
+                    }
+                }
+
+            } catch (Exception e) {
+                System.out.println("ERROR: " + file.getName());
+                failedTests++;
             }
         }
     }
@@ -204,6 +367,71 @@ public class JSONTestRunner {
         }
     }
 
+    private static void runFastRoundRobinLargeBurstTest() {
+        // Quantum 1 and bursts of a billion: each process runs alone, so the
+        // engine must record one dispatch per run, not one per quantum.
+        List<Process> solo = List.of(new Process(0, 2_000_000_000, 1, "P1"));
+        List<Process> apart = List.of(
+                new Process(0, 1_000_000_000, 1, "P1"),
+                new Process(1_000_000_000, 1_000_000_000, 1, "P2"));
+        try {
+            ScheduleResult soloResult = new FastRoundRobin(new ArrayList<>(solo), 1, 0).simulate();
+            ScheduleResult apartResult = new FastRoundRobin(new ArrayList<>(apart), 1, 0).simulate();
+            if (soloResult.getExecutionOrder().equals(List.of("P1"))
+                    && solo.get(0).getCompletionTime() == 2_000_000_000
+                    && apartResult.getExecutionOrder().equals(List.of("P1", "P2"))
+                    && apart.get(1).getCompletionTime() == 2_000_000_000) {
+                System.out.println("PASS: fast round robin large bursts");
+                passedTests++;
+            } else {
+                System.out.println("FAIL: fast round robin large bursts");
+                System.out.println("  Got " + soloResult.getExecutionOrder() + " and " + apartResult.getExecutionOrder());
+                failedTests++;
+            }
+        } catch (OutOfMemoryError e) {
+            System.out.println("FAIL: fast round robin large bursts");
+            System.out.println("  " + e);
+            failedTests++;
+        }
+    }
+
+    private static void testFastRoundRobin(String fileName, JsonArray processesJson, int contextSwitch, int quantum, JsonObject expectedOutput) {
+        List<Process> processes = parseProcesses(processesJson);
+
+        ScheduleResult result = new FastRoundRobin(processes, quantum, contextSwitch).simulate();
+
+        JsonObject expected = expectedOutput.getAsJsonObject("RR");
+        double expectedAvgWT = expected.get("averageWaitingTime").getAsDouble();
+        double expectedAvgTAT = expected.get("averageTurnaroundTime").getAsDouble();
+        List<String> expectedOrder = new ArrayList<>();
+        for (JsonElement name : expected.getAsJsonArray("executionOrder")) {
+            expectedOrder.add(name.getAsString());
+        }
+
+        double tolerance = 0.1;
+
+        boolean orderPass = expectedOrder.equals(result.getExecutionOrder());
+        boolean wtPass = Math.abs(expectedAvgWT - result.getAverageWaitingTime()) <= tolerance;
+        boolean tatPass = Math.abs(expectedAvgTAT - result.getAverageTurnaroundTime()) <= tolerance;
+
+        if (orderPass && wtPass && tatPass) {
+            System.out.println("PASS: " + fileName + " [RR fast]");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: " + fileName + " [RR fast]");
+            if (!orderPass) {
+                System.out.println("  Order: Expected " + expectedOrder + ", Got " + result.getExecutionOrder());
+            }
+            if (!wtPass) {
+                System.out.println("  WT: Expected " + expectedAvgWT + ", Got " + result.getAverageWaitingTime());
+            }
+            if (!tatPass) {
+                System.out.println("  TAT: Expected " + expectedAvgTAT + ", Got " + result.getAverageTurnaroundTime());
+            }
+            failedTests++;
+        }
+    }
+
     private static void testPriority(String fileName, JsonArray processesJson, int contextSwitch, int agingInterval, JsonObject expectedOutput) {
         List<Process> processes = new ArrayList<>();
         for (JsonElement elem : processesJson) {
@@ -245,4 +473,812 @@ public class JSONTestRunner {
             failedTests++;
         }
     }
-}
+
+    private static void runResultCacheTest() {
+        List<Path> directories = new ArrayList<>();
+        try {
+            String content = new String(Files.readAllBytes(Paths.get("test_cases/Other_Schedulers/test_1.json")));
+            JsonObject input = gson.fromJson(content, JsonObject.class).getAsJsonObject("input");
+            JsonArray processesJson = input.getAsJsonArray("processes");
+            int contextSwitch = input.get("contextSwitch").getAsInt();
+            int quantum = input.get("rrQuantum").getAsInt();
+
+            Path dir = Files.createTempDirectory("result-cache-test");
+            directories.add(dir);
+            List<Process> processes = parseProcesses(processesJson);
+            String key = ResultCache.key("RR", processes, contextSwitch, quantum, 0);
+            ResultCache cache = new ResultCache(dir, 1024 * 1024);
+            ScheduleResult computed = cache.getOrCompute(key, () -> new RoundRobin(processes, quantum, contextSwitch).simulate());
+
+            ScheduleResult fromDisk = new ResultCache(dir, 1024 * 1024).get(key);
+            boolean roundTrip = fromDisk != null
+                    && fromDisk.getExecutionOrder().equals(computed.getExecutionOrder())
+                    && fromDisk.getAverageWaitingTime() == computed.getAverageWaitingTime()
+                    && fromDisk.getAverageTurnaroundTime() == computed.getAverageTurnaroundTime()
+                    && cache.get(key) == computed;
+
+            // A memory hit must refresh the file's mtime too, or a restart sees the entry as stale.
+            Path file = dir.resolve(key + ".json");
+            Files.setLastModifiedTime(file, java.nio.file.attribute.FileTime.fromMillis(0));
+            boolean touched = cache.get(key) == computed && Files.getLastModifiedTime(file).toMillis() > 0;
+
+            List<Process> otherProcesses = parseProcesses(processesJson);
+            String otherKey = ResultCache.key("RR", otherProcesses, contextSwitch, quantum + 1, 0);
+            Path smallDir = Files.createTempDirectory("result-cache-test");
+            directories.add(smallDir);
+            ResultCache small = new ResultCache(smallDir, cache.sizeInBytes());
+            small.put(key, computed);
+            small.put(otherKey, new RoundRobin(otherProcesses, quantum + 1, contextSwitch).simulate());
+            boolean evicted = small.size() == 1 && small.get(key) == null && small.get(otherKey) != null;
+
+            if (roundTrip && touched && evicted) {
+                System.out.println("PASS: result cache");
+                passedTests++;
+            } else {
+                System.out.println("FAIL: result cache");
+                if (!roundTrip) {
+                    System.out.println("  cached result differs from computed result");
+                }
+                if (!touched) {
+                    System.out.println("  memory hit did not refresh the file's modification time");
+                }
+                if (!evicted) {
+                    System.out.println("  least recently used entry was not evicted");
+                }
+                failedTests++;
+            }
+        } catch (Exception e) {
+            System.out.println("ERROR: result cache");
+            e.printStackTrace(System.out);
+            failedTests++;
+        } finally {
+            for (Path dir : directories) {
+                deleteTree(dir);
+            }
+        }
+    }
+
+    private static void deleteTree(Path dir) {
+        try (java.util.stream.Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            System.out.println("  could not delete " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private static void runWhatIfTest() {
+        List<String> mismatches = new ArrayList<>();
+        try {
+            List<File> files = new ArrayList<>();
+            files.addAll(Arrays.asList(new File("test_cases/AG").listFiles((dir, name) -> name.endsWith(".json"))));
+            files.addAll(Arrays.asList(new File("test_cases/Other_Schedulers").listFiles((dir, name) -> name.endsWith(".json"))));
+            files.sort(Comparator.comparing(File::getName));
+
+            for (File file : files) {
+                String content = new String(Files.readAllBytes(file.toPath()));
+                JsonObject input = gson.fromJson(content, JsonObject.class).getAsJsonObject("input");
+                JsonArray processesJson = input.getAsJsonArray("processes");
+                int contextSwitch = input.has("contextSwitch") ? input.get("contextSwitch").getAsInt() : 0;
+                int quantum = input.has("rrQuantum") ? input.get("rrQuantum").getAsInt() : 2;
+                int agingInterval = input.has("agingInterval") ? input.get("agingInterval").getAsInt() : 5;
+
+                // Lengthen the last listed process and move its arrival one unit later.
+                JsonObject last = processesJson.get(processesJson.size() - 1).getAsJsonObject();
+                Process changed = new Process(
+                    last.get("arrival").getAsInt() + 1,
+                    last.get("burst").getAsInt() + 3,
+                    last.get("priority").getAsInt(),
+                    last.get("name").getAsString()
+                );
+                changed.setQuantum(last.has("quantum") ? last.get("quantum").getAsInt() : 0);
+
+                List<Process> full = parseProcesses(processesJson);
+                full.set(full.size() - 1, new Process(changed));
+
+                RoundRobin rr = new RoundRobin(parseProcesses(processesJson), quantum, contextSwitch);
+                rr.enableCheckpoints(2);
+                rr.simulate();
+                compareResults(file.getName() + " [RR]", rr.update(changed),
+                        new RoundRobin(copyOf(full), quantum, contextSwitch).simulate(), mismatches);
+
+                PreemptiveSJF sjf = new PreemptiveSJF(parseProcesses(processesJson), contextSwitch);
+                sjf.enableCheckpoints(2);
+                sjf.simulate();
+                compareResults(file.getName() + " [SJF]", sjf.update(changed),
+                        new PreemptiveSJF(copyOf(full), contextSwitch).simulate(), mismatches);
+
+                PriorityScheduler priority = new PriorityScheduler(parseProcesses(processesJson), contextSwitch, agingInterval);
+                priority.enableCheckpoints(2);
+                priority.simulate();
+                compareResults(file.getName() + " [Priority]", priority.update(changed),
+                        new PriorityScheduler(copyOf(full), contextSwitch, agingInterval).simulate(), mismatches);
+
+                if (last.has("quantum")) {
+                    AGScheduler ag = new AGScheduler(parseProcesses(processesJson), 0);
+                    ag.enableCheckpoints(2);
+                    ag.simulate();
+                    compareResults(file.getName() + " [AG]", ag.update(changed),
+                            new AGScheduler(copyOf(full), 0).simulate(), mismatches);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("ERROR: what-if re-simulation");
+            failedTests++;
+            return;
+        }
+
+        if (mismatches.isEmpty()) {
+            System.out.println("PASS: what-if re-simulation");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: what-if re-simulation");
+            for (String mismatch : mismatches) {
+                System.out.println("  differs from full run: " + mismatch);
+            }
+            failedTests++;
+        }
+    }
+
+    private static void runProportionalShareTest() {
+        // A holds 3 tickets and B holds 1, so A should get three quarters of the CPU
+        // while both are ready: it finishes its 30 units after about 40 units of time.
+        List<Process> strideProcesses = List.of(new Process(0, 30, 3, "A"), new Process(0, 30, 1, "B"));
+        new StrideScheduler(new ArrayList<>(strideProcesses), 1, 0).simulate();
+        int strideA = strideProcesses.get(0).getCompletionTime();
+        boolean stridePass = Math.abs(strideA - 40) <= 1 && strideProcesses.get(1).getCompletionTime() == 60;
+
+        List<Process> first = List.of(new Process(0, 3000, 3, "A"), new Process(0, 3000, 1, "B"));
+        List<Process> second = List.of(new Process(0, 3000, 3, "A"), new Process(0, 3000, 1, "B"));
+        ScheduleResult a = new LotteryScheduler(new ArrayList<>(first), 1, 0, 7).simulate();
+        ScheduleResult b = new LotteryScheduler(new ArrayList<>(second), 1, 0, 7).simulate();
+        int lotteryA = first.get(0).getCompletionTime();
+        boolean lotteryPass = a.getExecutionOrder().equals(b.getExecutionOrder())
+                && Math.abs(lotteryA - 4000) <= 200
+                && first.get(1).getCompletionTime() == 6000;
+
+        if (stridePass && lotteryPass) {
+            System.out.println("PASS: proportional share");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: proportional share");
+            if (!stridePass) {
+                System.out.println("  Stride: A finished at " + strideA + ", expected about 40");
+            }
+            if (!lotteryPass) {
+                System.out.println("  Lottery: A finished at " + lotteryA + ", expected about 4000 and a repeatable order");
+            }
+            failedTests++;
+        }
+    }
+
+    private static void compareResults(String label, ScheduleResult incremental, ScheduleResult full, List<String> mismatches) {
+        boolean same = incremental.getExecutionOrder().equals(full.getExecutionOrder())
+                && incremental.getProcessResults().size() == full.getProcessResults().size()
+                && Objects.equals(incremental.getQuantumHistory(), full.getQuantumHistory());
+        for (int i = 0; same && i < full.getProcessResults().size(); i++) {
+            ScheduleResult.ProcessResult a = incremental.getProcessResults().get(i);
+            ScheduleResult.ProcessResult b = full.getProcessResults().get(i);
+            same = a.getName().equals(b.getName())
+                    && a.getWaitingTime() == b.getWaitingTime()
+                    && a.getTurnaroundTime() == b.getTurnaroundTime();
+        }
+        if (!same) {
+            mismatches.add(label);
+        }
+    }
+
+    private static List<Process> copyOf(List<Process> processes) {
+        List<Process> copy = new ArrayList<>();
+        for (Process p : processes) {
+            copy.add(new Process(p));
+        }
+        return copy;
+    }
+
+    private static void runPredictiveSJFTest() {
+        // Both processes start with an estimate of 5, so B (arriving at 1) never
+        // looks shorter than A, which has already run. Clairvoyant SJF would
+        // preempt A for B instead: WT 2 and 0 against 0 and 7.
+        List<Process> processes = new ArrayList<>(List.of(new Process(0, 8, 1, "A"), new Process(1, 2, 1, "B")));
+        PredictiveSJF sjf = new PredictiveSJF(processes, 0, 0.5, 5);
+        ScheduleResult result = sjf.simulate();
+        PredictiveSJF.PredictionReport report = sjf.getReport();
+
+        List<String> failures = new ArrayList<>();
+        if (!List.of("A", "B").equals(result.getExecutionOrder())) {
+            failures.add("Order: Expected [A, B], Got " + result.getExecutionOrder());
+        }
+        if (Math.abs(result.getAverageWaitingTime() - 3.5) > 0.01) {
+            failures.add("WT: Expected 3.5, Got " + result.getAverageWaitingTime());
+        }
+        if (report.getBursts() != 2 || Math.abs(report.getMeanAbsoluteError() - 3) > 0.01 || Math.abs(report.getMeanError()) > 0.01) {
+            failures.add("Error: Expected 2 bursts, mean absolute 3, mean 0, Got " + report.getBursts() + ", "
+                    + report.getMeanAbsoluteError() + ", " + report.getMeanError());
+        }
+        if (Math.abs(report.getWaitingTimeGap() - 2.5) > 0.01) {
+            failures.add("Gap: Expected 2.5, Got " + report.getWaitingTimeGap());
+        }
+
+        // Repeated bursts of 1: with alpha = 1 the estimate drops to 1 after the
+        // first burst, so A's later bursts overtake B's long one.
+        Process a = new Process(0, 0, 1, "A");
+        a.setBursts(new int[] {1, 1, 1, 1, 1});
+        List<Process> learning = new ArrayList<>(List.of(a, new Process(0, 6, 1, "B")));
+        PredictiveSJF learner = new PredictiveSJF(learning, 0, 1.0, 3);
+        ScheduleResult learned = learner.simulate();
+        if (!List.of("A", "B", "A", "B", "A", "B").equals(learned.getExecutionOrder())) {
+            failures.add("Learning order: Expected [A, B, A, B, A, B], Got " + learned.getExecutionOrder());
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("PASS: predictive SJF");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: predictive SJF");
+            for (String failure : failures) {
+                System.out.println("  " + failure);
+            }
+            failedTests++;
+        }
+    }
+
+    private static void runSwitchCostTest() {
+        // Round Robin with quantum 2 over A and B (4 units each, both at 0), base
+        // cost 1, refill 4, decay 10. B's first dispatch pays the full refill (5).
+        // A comes back after 7 units away: 1 + ceil(4 * (1 - e^-0.7)) = 4. B comes
+        // back after 6: 1 + ceil(4 * (1 - e^-0.6)) = 3. A ends at 15, B at 20.
+        JsonObject testCase = JsonParser.parseString("{\"input\": {\"contextSwitch\": 1, \"rrQuantum\": 2,"
+                + " \"switchCost\": {\"refill\": 4, \"decay\": 10},"
+                + " \"processes\": [{\"name\": \"A\", \"arrival\": 0, \"burst\": 4, \"priority\": 1},"
+                + " {\"name\": \"B\", \"arrival\": 0, \"burst\": 4, \"priority\": 1}]}}").getAsJsonObject();
+        Workload workload = Workload.parse("affinity", testCase);
+        ScheduleResult warm = Comparison.simulate("RR", workload);
+        boolean warmPass = warm.getAverageTurnaroundTime() == 17.5 && warm.getAverageWaitingTime() == 13.5;
+
+        // On three cores every switch lands on another core, so both returns pay
+        // migration 3 plus the full refill: A ends at 19, B at 29.
+        List<Process> processes = workload.processes();
+        new RoundRobin(processes, 2, new CacheAffinitySwitchCost(1, 4, 10, 3, 3)).simulate();
+        boolean migratePass = processes.get(0).getCompletionTime() == 19 && processes.get(1).getCompletionTime() == 29;
+
+        // AG's mid-quantum swaps are free but must still reach the model: it has
+        // to see every change of the running process.
+        List<Integer> seen = new ArrayList<>();
+        SwitchCostModel recorder = new SwitchCostModel() {
+            public void reset(int processCount) { seen.clear(); }
+            public int switchCost(int from, int to, long now) {
+                seen.add(to);
+                return 0;
+            }
+            public SwitchCostModel copy() { return this; }
+        };
+        List<String> changes = new ArrayList<>();
+        List<String> expectedChanges = new ArrayList<>();
+        try {
+            JsonObject agCase = JsonParser.parseString(Files.readString(Paths.get("test_cases/AG/AG_test1.json"))).getAsJsonObject();
+            List<Process> agProcesses = Workload.parse("AG_test1.json", agCase).processes();
+            List<String> order = new AGScheduler(agProcesses, recorder).simulate().getExecutionOrder();
+            for (int i = 1; i < order.size(); i++) {
+                if (!order.get(i).equals(order.get(i - 1))) {
+                    expectedChanges.add(order.get(i));
+                }
+            }
+            Map<Integer, String> names = new HashMap<>();
+            for (Process p : agProcesses) {
+                names.put(p.getId(), p.getName());
+            }
+            for (int id : seen) {
+                changes.add(names.get(id));
+            }
+        } catch (IOException e) {
+            changes.add(e.toString());
+        }
+        boolean agPass = !expectedChanges.isEmpty() && changes.equals(expectedChanges);
+
+        if (warmPass && migratePass && agPass) {
+            System.out.println("PASS: switch cost model");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: switch cost model");
+            if (!warmPass) {
+                System.out.println("  One core: Avg TAT " + warm.getAverageTurnaroundTime() + ", expected 17.5");
+            }
+            if (!migratePass) {
+                System.out.println("  Three cores: finished at " + processes.get(0).getCompletionTime()
+                        + " and " + processes.get(1).getCompletionTime() + ", expected 19 and 29");
+            }
+            if (!agPass) {
+                System.out.println("  AG: model saw " + changes + ", expected " + expectedChanges);
+            }
+            failedTests++;
+        }
+    }
+
+    private static void runAGScanTest() {
+        // Few distinct values so there are many ties, which must go to the entry
+        // nearest the head. Rotating the queue first makes it wrap around its array.
+        Random random = new Random(5);
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            processes.add(new Process(0, 1 + random.nextInt(20), random.nextInt(10), "P" + i));
+        }
+        ProcessTable table = new ProcessTable(processes);
+        IntRingBuffer queue = new IntRingBuffer(processes.size());
+        for (int id = 0; id < processes.size(); id++) {
+            queue.offer(id);
+        }
+        for (int i = 0; i < 1234; i++) {
+            queue.offer(queue.poll());
+        }
+
+        AGReadyScan expected = AGReadyScan.sequential(queue, table);
+        List<Integer> failures = new ArrayList<>();
+        for (int leafSize : new int[] {1, 7, 64, 1000, 8192}) {
+            AGReadyScan split = AGReadyScan.parallel(queue, table, leafSize);
+            if (split.getBestPriority() != expected.getBestPriority() || split.getShortestJob() != expected.getShortestJob()) {
+                failures.add(leafSize);
+            }
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("PASS: AG parallel scan");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: AG parallel scan");
+            System.out.println("  Differs from the sequential scan with leaves of " + failures);
+            failedTests++;
+        }
+    }
+
+    private static void runGangArrivalTest() {
+        List<String> failures = new ArrayList<>();
+
+        // Three gangs: four processes at 0, three at 7, one at 9.
+        int[] arrivalTimes = {7, 0, 0, 9, 7, 0, 7, 0};
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < arrivalTimes.length; i++) {
+            processes.add(new Process(arrivalTimes[i], 1, 1, "P" + i));
+        }
+        ArrivalIndex arrivals = new ArrivalIndex(new ProcessTable(processes));
+        int first = arrivals.release(0);
+        int nextArrival = arrivals.nextArrival();
+        int second = arrivals.release(8);
+        if (first != 4 || nextArrival != 7 || second != 7 || arrivals.nextArrival() != 9
+                || !Arrays.equals(arrivals.order(), new int[] {1, 2, 5, 7, 0, 4, 6, 3})) {
+            failures.add("arrival buckets");
+        }
+        arrivals.seek(4);
+        if (arrivals.position() != 4 || arrivals.nextArrival() != 7) {
+            failures.add("arrival seek");
+        }
+
+        // A batch at least as large as the heap is heapified; it must pop in the same order.
+        Random random = new Random(9);
+        int[] keys = new int[1000];
+        int[] ids = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(50);
+            ids[i] = i;
+        }
+        IntHeap.IdComparator byKey = (a, b) -> keys[a] != keys[b] ? Integer.compare(keys[a], keys[b]) : Integer.compare(a, b);
+        IntHeap bulk = new IntHeap(4, byKey);
+        IntHeap single = new IntHeap(4, byKey);
+        bulk.pushAll(ids, 0, 100);
+        bulk.pushRange(100, 700);
+        bulk.pushAll(ids, 700, 1000);
+        for (int id : ids) {
+            single.push(id);
+        }
+        while (!single.isEmpty()) {
+            if (bulk.isEmpty() || bulk.pop() != single.pop()) {
+                failures.add("heap bulk push");
+                break;
+            }
+        }
+
+        // Appending across the end of the ring buffer's array, then past its capacity.
+        IntRingBuffer queue = new IntRingBuffer(8);
+        for (int i = 0; i < 6; i++) {
+            queue.offer(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            queue.poll();
+        }
+        queue.offerAll(ids, 10, 15);
+        queue.offerAll(ids, 15, 20);
+        if (!Arrays.equals(queue.toArray(), new int[] {5, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19})) {
+            failures.add("ring buffer bulk offer");
+        }
+
+        // A large batch rebuilds the Fenwick tree; sums and sampling must not change.
+        long[] weights = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            weights[i] = keys[i];
+        }
+        FenwickTree rebuilt = new FenwickTree(keys.length);
+        FenwickTree updated = new FenwickTree(keys.length);
+        rebuilt.set(3, 99);
+        updated.set(3, 99);
+        rebuilt.setAll(ids, 0, 600, weights);
+        for (int i = 0; i < 600; i++) {
+            updated.set(i, weights[i]);
+        }
+        for (int i = 0; i < keys.length && !failures.contains("fenwick bulk set"); i += 37) {
+            if (rebuilt.prefixSum(i) != updated.prefixSum(i) || rebuilt.find(i) != updated.find(i)) {
+                failures.add("fenwick bulk set");
+            }
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("PASS: gang arrivals");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: gang arrivals");
+            System.out.println("  Broken: " + failures);
+            failedTests++;
+        }
+    }
+
+    private static void runBoundedTest() {
+        List<String> failures = new ArrayList<>();
+        File[] files = new File("test_cases/Other_Schedulers").listFiles((dir, name) -> name.endsWith(".json"));
+        Arrays.sort(files);
+
+        // Streamed from the file, each process must end exactly as in the in-memory engines.
+        for (File file : files) {
+            try {
+                Workload workload;
+                try (Reader reader = new FileReader(file)) {
+                    workload = Workload.read(file.getName(), reader);
+                }
+                List<Process> rr = workload.processes();
+                new FastRoundRobin(rr, workload.getRrQuantum(), workload.getContextSwitch()).simulate();
+                List<Process> sjf = workload.processes();
+                new PreemptiveSJF(sjf, workload.getContextSwitch()).simulate();
+
+                for (BoundedScheduler.Policy policy : BoundedScheduler.Policy.values()) {
+                    StringWriter csv = new StringWriter();
+                    try (Reader reader = new FileReader(file);
+                         ProcessStream stream = new ProcessStream(file.getName(), reader);
+                         ResultSink sink = new CsvResultSink(csv)) {
+                        new BoundedScheduler(stream, policy, stream.getRrQuantum(), stream.getContextSwitch()).simulate(sink);
+                    }
+                    Set<String> expected = new TreeSet<>();
+                    for (Process p : policy == BoundedScheduler.Policy.ROUND_ROBIN ? rr : sjf) {
+                        expected.add(p.getName() + "," + p.getArrivalTime() + "," + p.getBurstTime() + ","
+                                + p.getCompletionTime() + "," + p.getWaitingTime() + "," + p.getTurnaroundTime());
+                    }
+                    String[] lines = csv.toString().split("\n");
+                    Set<String> actual = new TreeSet<>(Arrays.asList(lines).subList(1, lines.length));
+                    if (!lines[0].equals(CsvResultSink.HEADER) || !actual.equals(expected)) {
+                        failures.add(policy + " " + file.getName());
+                    }
+                }
+            } catch (IOException e) {
+                failures.add(file.getName() + ": " + e.getMessage());
+            }
+        }
+
+        // A long trace generated on the fly: only the few live processes are ever held.
+        int count = 100_000;
+        Iterator<Process> trace = new Iterator<>() {
+            private int next;
+            public boolean hasNext() { return next < count; }
+            public Process next() {
+                int i = next++;
+                return new Process(4 * i, 1 + i % 4, 1, "P" + i);
+            }
+        };
+        List<Process> seen = new ArrayList<>();
+        try {
+            BoundedScheduler.Summary summary = new BoundedScheduler(trace, BoundedScheduler.Policy.SJF, 2, 1)
+                    .simulate((p, completionTime, waitingTime, turnaroundTime) -> {
+                        if (seen.size() < 3) {
+                            seen.add(p);
+                        }
+                    });
+            if (summary.getProcesses() != count || summary.getPeakLiveProcesses() > 3
+                    || seen.size() != 3 || !seen.get(0).getName().equals("P0")) {
+                failures.add("long trace");
+            }
+        } catch (IOException e) {
+            failures.add("long trace: " + e.getMessage());
+        }
+
+        // Names are quoted, and times past the int range are written as they are.
+        List<Process> odd = List.of(
+                new Process(2_000_000_000, 100_000_000, 1, "a,b"),
+                new Process(2_000_000_000, 100_000_000, 1, "say \"hi\""));
+        StringWriter oddCsv = new StringWriter();
+        try (ResultSink sink = new CsvResultSink(oddCsv)) {
+            new BoundedScheduler(odd.iterator(), BoundedScheduler.Policy.SJF, 0, 0).simulate(sink);
+        } catch (IOException | ArithmeticException e) {
+            failures.add("odd names and long times: " + e);
+        }
+        String expectedOdd = CsvResultSink.HEADER + "\n"
+                + "\"a,b\",2000000000,100000000,2100000000,0,100000000\n"
+                + "\"say \"\"hi\"\"\",2000000000,100000000,2200000000,100000000,200000000\n";
+        if (!oddCsv.toString().equals(expectedOdd)) {
+            failures.add("odd names and long times: " + oddCsv);
+        }
+
+        String late = "{\"input\": {\"processes\": [{\"name\": \"P1\", \"arrival\": 0, \"burst\": 2}], \"rrQuantum\": 2}}";
+        String unordered = "{\"input\": {\"processes\": [{\"name\": \"P1\", \"arrival\": 4, \"burst\": 2},"
+                + " {\"name\": \"P2\", \"arrival\": 1, \"burst\": 2}]}}";
+        for (String json : List.of(late, unordered)) {
+            try (ProcessStream stream = new ProcessStream("bad", new StringReader(json))) {
+                new BoundedScheduler(stream, BoundedScheduler.Policy.ROUND_ROBIN, 2, 0).simulate(ResultSink.discard());
+                failures.add("accepted " + json);
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            } catch (IOException e) {
+                failures.add(e.getMessage());
+            }
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("PASS: bounded mode");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: bounded mode");
+            System.out.println("  Broken: " + failures);
+            failedTests++;
+        }
+    }
+
+    private static void runComparisonTest() {
+        File[] files = new File("test_cases/Other_Schedulers").listFiles((dir, name) -> name.endsWith(".json"));
+        if (files == null || files.length == 0) {
+            failedTests++;
+            return;
+        }
+        Arrays.sort(files);
+
+        List<String> failures = new ArrayList<>();
+        try {
+            for (File file : files) {
+                JsonObject testCase = gson.fromJson(Files.readString(file.toPath()), JsonObject.class);
+                Workload workload = Workload.parse(file.getName(), testCase);
+                Comparison comparison = new Comparison(workload).run(4);
+
+                // Every policy must match a run on its own, so sharing the parse is safe.
+                for (String policy : Comparison.POLICIES) {
+                    ScheduleResult shared = comparison.getResults().get(policy);
+                    ScheduleResult alone = Comparison.simulate(policy, workload);
+                    compareResults(file.getName() + " " + policy, shared, alone, failures);
+                }
+
+                JsonObject json = gson.fromJson(comparison.toJson(), JsonObject.class);
+                if (json.getAsJsonArray("policies").size() != Comparison.POLICIES.size()) {
+                    failures.add(file.getName() + ": JSON has " + json.getAsJsonArray("policies").size() + " policies");
+                }
+                String[] csv = comparison.toCsv().split("\n");
+                if (csv.length != Comparison.POLICIES.size() + 1) {
+                    failures.add(file.getName() + ": CSV has " + csv.length + " lines");
+                }
+            }
+
+            // The AG files have no agingInterval; Priority must run without aging.
+            JsonObject agCase = gson.fromJson(Files.readString(Paths.get("test_cases/AG/AG_test1.json")), JsonObject.class);
+            Comparison agComparison = new Comparison(Workload.parse("AG_test1.json", agCase)).run(4);
+            if (!agComparison.getResults().keySet().equals(new HashSet<>(Comparison.POLICIES))) {
+                failures.add("AG_test1.json: ran " + agComparison.getResults().keySet());
+            }
+
+            // Policies without an I/O model are skipped on an I/O workload, not mixed in.
+            JsonObject ioCase = gson.fromJson(Files.readString(Paths.get("test_cases/IO/IO_test1.json")), JsonObject.class);
+            Workload io = Workload.parse("IO_test1.json", ioCase);
+            Comparison ioComparison = new Comparison(io, Comparison.policiesOf("all", "fast")).run(4);
+            Set<String> skipped = ioComparison.getSkipped().keySet();
+            if (!skipped.equals(Set.of("Fast RR", "Stride", "Lottery"))
+                    || ioComparison.getResults().size() != Comparison.POLICIES.size() - 3
+                    || gson.fromJson(ioComparison.toJson(), JsonObject.class).getAsJsonArray("skipped").size() != 3
+                    || ioComparison.toCsv().split("\n").length != Comparison.POLICIES.size() - 2) {
+                failures.add("IO_test1.json: skipped " + skipped + ", ran " + ioComparison.getResults().keySet());
+            }
+            for (String policy : List.of("Stride", "Lottery", "EDF")) {
+                try {
+                    Comparison.simulate(policy, io);
+                    failures.add(policy + " accepted I/O bursts");
+                } catch (IllegalArgumentException e) {
+                    // Expected.
+                }
+            }
+        } catch (Exception e) {
+            failures.add("Exception: " + e);
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("PASS: comparison");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: comparison");
+            for (String failure : failures) {
+                System.out.println("  " + failure);
+            }
+            failedTests++;
+        }
+    }
+
+    private static void runCliTest() {
+        List<String> failures = new ArrayList<>();
+        Path output = null;
+        try {
+            output = Files.createTempFile("scheduler-cli-test", ".csv");
+            // Every policy on each bundled directory, including AG and EDF files that lack some settings.
+            for (String dir : List.of("AG", "EDF", "IO", "Other_Schedulers")) {
+                File[] files = new File("test_cases", dir).listFiles((d, name) -> name.endsWith(".json"));
+                int status = SchedulerCli.execute(new String[] {
+                        "--input", "test_cases/" + dir, "--format", "csv", "--output", output.toString()});
+                int expected = 1;
+                for (File file : files) {
+                    Workload workload = Workload.parse(file.getName(), gson.fromJson(Files.readString(file.toPath()), JsonObject.class));
+                    for (String policy : Comparison.POLICIES) {
+                        if (Comparison.unsupported(policy, workload) == null) {
+                            expected++;
+                        }
+                    }
+                }
+                List<String> lines = Files.readAllLines(output);
+                if (status != 0 || lines.size() != expected) {
+                    failures.add(dir + ": status " + status + ", " + lines.size() + " lines");
+                }
+            }
+        } catch (IOException e) {
+            failures.add("Exception: " + e);
+        } finally {
+            if (output != null) {
+                output.toFile().delete();
+            }
+        }
+
+        // The bounded summary row quotes a workload name that contains a comma.
+        Path workload = null;
+        Path results = null;
+        output = null;
+        try {
+            workload = Files.createTempFile("scheduler-cli-test", ".json");
+            results = Files.createTempFile("scheduler-cli-test", ".csv");
+            output = Files.createTempFile("scheduler-cli-test", ".csv");
+            Files.writeString(workload, "{\"name\": \"a, b\", \"input\": {\"rrQuantum\": 2, \"processes\": ["
+                    + "{\"name\": \"P1\", \"arrival\": 0, \"burst\": 3}]}}");
+            int status = SchedulerCli.execute(new String[] {"--input", workload.toString(), "--scheduler", "rr",
+                    "--results", results.toString(), "--format", "csv", "--output", output.toString()});
+            List<String> lines = Files.readAllLines(output);
+            if (status != 0 || lines.size() != 2 || !lines.get(1).startsWith("\"a, b\",")) {
+                failures.add("bounded csv: status " + status + ", " + lines);
+            }
+        } catch (IOException e) {
+            failures.add("Exception: " + e);
+        } finally {
+            for (Path path : Arrays.asList(workload, results, output)) {
+                if (path != null) {
+                    path.toFile().delete();
+                }
+            }
+        }
+
+        // --help answers with a status like every other path instead of exiting the JVM.
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream usage = new ByteArrayOutputStream();
+        int helpStatus;
+        System.setOut(new PrintStream(usage, true));
+        try {
+            helpStatus = SchedulerCli.execute(new String[] {"--help"});
+        } finally {
+            System.setOut(stdout);
+        }
+        if (helpStatus != 0 || !usage.toString().startsWith("Usage:")) {
+            failures.add("--help: status " + helpStatus);
+        }
+
+        String described = SchedulerCli.describe(new IllegalStateException("Priority failed on test.json",
+                new ArithmeticException("/ by zero")));
+        if (!described.contains("/ by zero")) {
+            failures.add("error without its cause: " + described);
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("PASS: command line");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: command line");
+            for (String failure : failures) {
+                System.out.println("  " + failure);
+            }
+            failedTests++;
+        }
+    }
+
+    private static void runServiceTest() {
+        List<String> failures = new ArrayList<>();
+        SchedulerService service = null;
+        try {
+            service = new SchedulerService(0, 2);
+            service.start();
+            HttpClient client = HttpClient.newHttpClient();
+            URI base = URI.create("http://localhost:" + service.getPort());
+
+            File[] files = new File("test_cases/Other_Schedulers").listFiles((dir, name) -> name.endsWith(".json"));
+            Arrays.sort(files);
+            List<String> bodies = new ArrayList<>();
+            List<ScheduleResult> expected = new ArrayList<>();
+            for (File file : files) {
+                String body = Files.readString(file.toPath());
+                bodies.add(body);
+                expected.add(Comparison.simulate("Priority", Workload.parse(file.getName(), gson.fromJson(body, JsonObject.class))));
+            }
+
+            // Fire every file several times at once, so the dispatcher has something to batch.
+            List<java.util.concurrent.CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int round = 0; round < 5; round++) {
+                for (String body : bodies) {
+                    HttpRequest request = HttpRequest.newBuilder(base.resolve("/schedule?scheduler=priority"))
+                            .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+                    responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+                }
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                HttpResponse<String> response = responses.get(i).get();
+                if (response.statusCode() != 200) {
+                    failures.add("Status " + response.statusCode() + ": " + response.body());
+                    continue;
+                }
+                compareResults("request " + i, gson.fromJson(response.body(), ScheduleResult.class),
+                        expected.get(i % bodies.size()), failures);
+            }
+
+            HttpResponse<String> bad = client.send(HttpRequest.newBuilder(base.resolve("/schedule?scheduler=nope"))
+                    .POST(HttpRequest.BodyPublishers.ofString(bodies.get(0))).build(), HttpResponse.BodyHandlers.ofString());
+            if (bad.statusCode() != 400) {
+                failures.add("Unknown scheduler: Expected 400, Got " + bad.statusCode());
+            }
+            HttpResponse<String> malformed = client.send(HttpRequest.newBuilder(base.resolve("/schedule"))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"input\": [")).build(), HttpResponse.BodyHandlers.ofString());
+            if (malformed.statusCode() != 400) {
+                failures.add("Malformed body: Expected 400, Got " + malformed.statusCode());
+            }
+
+            // A process that can never complete is refused up front; the service keeps serving.
+            for (String process : List.of("{\"name\": \"A\", \"arrival\": 0, \"burst\": 0, \"priority\": 1}",
+                    "{\"name\": \"A\", \"arrival\": 0, \"priority\": 1}",
+                    "{\"name\": \"A\", \"arrival\": -1, \"burst\": 2, \"priority\": 1}",
+                    "{\"name\": \"\", \"arrival\": 0, \"burst\": 2, \"priority\": 1}")) {
+                HttpResponse<String> invalid = client.send(HttpRequest.newBuilder(base.resolve("/schedule?scheduler=sjf"))
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"input\": {\"processes\": [" + process + "]}}")).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (invalid.statusCode() != 400) {
+                    failures.add("Invalid process " + process + ": Expected 400, Got " + invalid.statusCode());
+                }
+            }
+            HttpResponse<String> after = client.send(HttpRequest.newBuilder(base.resolve("/schedule?scheduler=sjf"))
+                    .POST(HttpRequest.BodyPublishers.ofString(bodies.get(0))).build(), HttpResponse.BodyHandlers.ofString());
+            if (after.statusCode() != 200) {
+                failures.add("After invalid requests: Expected 200, Got " + after.statusCode());
+            }
+        } catch (Exception e) {
+            failures.add("Exception: " + e);
+        } finally {
+            if (service != null) {
+                service.stop();
+            }
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("PASS: scheduler service");
+            passedTests++;
+        } else {
+            System.out.println("FAIL: scheduler service");
+            for (String failure : failures) {
+                System.out.println("  " + failure);
+            }
+            failedTests++;
+        }
+    }
+
+    private static List<Process> parseProcesses(JsonArray processesJson) {
+        return Workload.parseProcesses(processesJson);
+    }
+}
\ No newline at end of file